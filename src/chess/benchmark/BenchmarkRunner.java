@@ -0,0 +1,133 @@
+package chess.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Stopgap timing harness for use until the hot paths get a JMH module. It runs in the calling JVM with no
+ * forking, does not guard against dead-code elimination beyond the {@link Blackhole}, and estimates
+ * allocation from the per-thread counter rather than JMH's GC profiler. Its figures are only good for
+ * rough comparisons on the same machine and should not be quoted as measurements.
+ */
+public final class BenchmarkRunner {
+
+	public interface Benchmark {
+		void run(Blackhole blackhole);
+	}
+
+	public static final class Blackhole {
+
+		private int intSink;
+		private long longSink;
+		private Object objectSink;
+
+		private Blackhole() {
+		}
+
+		public void consume(final int value) {
+			this.intSink ^= value;
+		}
+
+		public void consume(final long value) {
+			this.longSink ^= value;
+		}
+
+		public void consume(final Object value) {
+			this.objectSink = value;
+		}
+
+		private int result() {
+			return this.intSink ^ (int) (this.longSink ^ (this.longSink >>> 32)) ^ (this.objectSink == null ? 0 : 1);
+		}
+	}
+
+	private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private static volatile int sink;
+
+	private final long warmupNanos;
+	private final long iterationNanos;
+	private final int iterations;
+	private final String filter;
+	private final PrintStream console;
+	private final Blackhole blackhole;
+
+	public BenchmarkRunner(final long warmupMillis, final long iterationMillis, final int iterations, final String filter) {
+		this.warmupNanos = warmupMillis * 1000000L;
+		this.iterationNanos = iterationMillis * 1000000L;
+		this.iterations = iterations;
+		this.filter = filter;
+		this.console = System.out;
+		this.blackhole = new Blackhole();
+		THREAD_BEAN.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	public void printHeader() {
+		this.console.println("Stopgap harness, not JMH: no forking or GC profiler, treat figures as rough comparisons only");
+		this.console.println(String.format("%-60s %14s %14s %12s %6s %8s", "Benchmark", "ops/s", "B/op", "MB/s", "GCs", "GC ms"));
+	}
+
+	public void run(final String name, final Benchmark benchmark) {
+		if (this.filter != null && !name.contains(this.filter)) {
+			return;
+		}
+		System.setOut(new PrintStream(new OutputStream() {
+			@Override
+			public void write(final int b) {
+			}
+		}));
+		try {
+			measure(benchmark, this.warmupNanos);
+			final long gcCountBefore = gcCount();
+			final long gcMillisBefore = gcMillis();
+			final long bytesBefore = THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+			long operations = 0;
+			long elapsedNanos = 0;
+			for (int i = 0; i < this.iterations; i++) {
+				final long startTime = System.nanoTime();
+				operations += measure(benchmark, this.iterationNanos);
+				elapsedNanos += System.nanoTime() - startTime;
+			}
+			final long allocatedBytes = THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) - bytesBefore;
+			final double seconds = elapsedNanos / 1e9;
+			this.console.println(String.format("%-60s %14.1f %14.0f %12.1f %6d %8d", name,
+					operations / seconds,
+					(double) allocatedBytes / operations,
+					allocatedBytes / seconds / (1024 * 1024),
+					gcCount() - gcCountBefore,
+					gcMillis() - gcMillisBefore));
+		} finally {
+			System.setOut(this.console);
+		}
+	}
+
+	private long measure(final Benchmark benchmark, final long durationNanos) {
+		final long deadline = System.nanoTime() + durationNanos;
+		long operations = 0;
+		do {
+			benchmark.run(this.blackhole);
+			operations++;
+		} while (System.nanoTime() < deadline);
+		sink ^= this.blackhole.result();
+		return operations;
+	}
+
+	private static long gcCount() {
+		long count = 0;
+		for (final GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gcBean.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long gcMillis() {
+		long millis = 0;
+		for (final GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(0, gcBean.getCollectionTime());
+		}
+		return millis;
+	}
+}
@@ -0,0 +1,143 @@
+package chess.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import chess.board.Board;
+import chess.board.FenUtilities;
+import chess.board.MagicBitboards;
+import chess.board.Move;
+import chess.board.SearchBoard;
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+import chess.player.ai.BoardEvaluator;
+import chess.player.ai.MiniMax;
+
+public final class ChessBenchmarks {
+
+	static final String[][] POSITIONS = {
+		{ "opening", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1" },
+		{ "middlegame-kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1" },
+		{ "middlegame-italian", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10" },
+		{ "middlegame-enpassant", "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3" },
+		{ "endgame-rook", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1" },
+		{ "endgame-promotion", "n1n5/PPPk4/8/8/8/8/4Kppp/5N1N b - - 0 1" }
+	};
+
+	private static final int[] MINIMAX_DEPTHS = { 1, 2, 3 };
+
+	private ChessBenchmarks() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static void main(final String[] args) {
+		long warmupMillis = 1000;
+		long iterationMillis = 1000;
+		int iterations = 3;
+		String filter = null;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equals("-warmup")) {
+				warmupMillis = Long.parseLong(args[i + 1]);
+			} else if (args[i].equals("-time")) {
+				iterationMillis = Long.parseLong(args[i + 1]);
+			} else if (args[i].equals("-iterations")) {
+				iterations = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equals("-filter")) {
+				filter = args[i + 1];
+			}
+		}
+		final BenchmarkRunner runner = new BenchmarkRunner(warmupMillis, iterationMillis, iterations, filter);
+		final Map<String, Board> boards = new LinkedHashMap<>();
+		for (final String[] position : POSITIONS) {
+			boards.put(position[0], FenUtilities.createBoardFromFen(position[1]));
+		}
+		System.out.println("Magic bitboard tables: " + MagicBitboards.getTableMemoryBytes() / 1024 + " KB, initialized in " +
+				MagicBitboards.getInitializationNanos() / 1000 + " microseconds");
+		runner.printHeader();
+		runBoardCreation(runner);
+		runPieceMoveGeneration(runner, boards);
+		runMoveExecution(runner, boards);
+		runMakeMove(runner, boards);
+		runEvaluation(runner);
+		runMiniMax(runner, boards);
+	}
+
+	private static void runBoardCreation(final BenchmarkRunner runner) {
+		runner.run("Board.createStandardBoard", blackhole -> blackhole.consume(Board.createStandardBoard()));
+		runner.run("FenUtilities.createBoardFromFen " + POSITIONS[1][0],
+				blackhole -> blackhole.consume(FenUtilities.createBoardFromFen(POSITIONS[1][1])));
+	}
+
+	private static void runPieceMoveGeneration(final BenchmarkRunner runner, final Map<String, Board> boards) {
+		for (final PieceType pieceType : PieceType.values()) {
+			final List<Piece> pieces = new ArrayList<>();
+			final List<Board> pieceBoards = new ArrayList<>();
+			for (final Board board : boards.values()) {
+				for (final Piece piece : board.currentPlayer().getActivePieces()) {
+					if (piece.getPieceType() == pieceType) {
+						pieces.add(piece);
+						pieceBoards.add(board);
+					}
+				}
+			}
+			runner.run("Piece.calculateLegalMoves " + pieceType.name() + " x" + pieces.size(), blackhole -> {
+				int moveCount = 0;
+				for (int i = 0; i < pieces.size(); i++) {
+					moveCount += pieces.get(i).calculateLegalMoves(pieceBoards.get(i)).size();
+				}
+				blackhole.consume(moveCount);
+			});
+		}
+	}
+
+	private static void runMoveExecution(final BenchmarkRunner runner, final Map<String, Board> boards) {
+		final Map<String, Move> movesByType = new LinkedHashMap<>();
+		for (final Board board : boards.values()) {
+			for (final Move move : board.currentPlayer().getLegalMoves()) {
+				final String moveType = move.getClass().getSimpleName() +
+						(move instanceof Move.PawnPromotion && move.isAttack() ? " (capture)" : "");
+				if (!movesByType.containsKey(moveType)) {
+					movesByType.put(moveType, move);
+				}
+			}
+		}
+		for (final Map.Entry<String, Move> entry : movesByType.entrySet()) {
+			final Move move = entry.getValue();
+			runner.run("Move.execute " + entry.getKey(), blackhole -> blackhole.consume(move.execute()));
+		}
+	}
+
+	private static void runMakeMove(final BenchmarkRunner runner, final Map<String, Board> boards) {
+		for (final Map.Entry<String, Board> entry : boards.entrySet()) {
+			final Board board = entry.getValue();
+			final List<Move> moves = new ArrayList<>(board.currentPlayer().getLegalMoves());
+			runner.run("Player.makeMove " + entry.getKey() + " x" + moves.size(), blackhole -> {
+				for (final Move move : moves) {
+					blackhole.consume(board.currentPlayer().makeMove(move));
+				}
+			});
+		}
+	}
+
+	private static void runEvaluation(final BenchmarkRunner runner) {
+		final BoardEvaluator evaluator = new BoardEvaluator();
+		for (final String[] position : POSITIONS) {
+			final Board board = FenUtilities.createBoardFromFen(position[1]);
+			runner.run("BoardEvaluator.evaluate(Board) " + position[0], blackhole -> blackhole.consume(evaluator.evaluate(board.copy(), 0)));
+			final SearchBoard searchBoard = new SearchBoard(board);
+			runner.run("BoardEvaluator.evaluate(SearchBoard) " + position[0], blackhole -> blackhole.consume(evaluator.evaluate(searchBoard, 0)));
+		}
+	}
+
+	private static void runMiniMax(final BenchmarkRunner runner, final Map<String, Board> boards) {
+		for (final int depth : MINIMAX_DEPTHS) {
+			final MiniMax miniMax = new MiniMax(depth);
+			for (final Map.Entry<String, Board> entry : boards.entrySet()) {
+				final Board board = entry.getValue();
+				runner.run("MiniMax.execute depth " + depth + " " + entry.getKey(), blackhole -> blackhole.consume(miniMax.execute(board)));
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package chess.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import chess.board.Board;
+import chess.board.CompactMove;
+import chess.board.FenUtilities;
+import chess.board.Move;
+import chess.player.ai.AlphaBeta;
+
+public final class SelectiveSearchBenchmark {
+
+	private static final String[] CONFIGURATIONS = { "none", "null-move", "lmr", "futility", "razoring", "all" };
+
+	private SelectiveSearchBenchmark() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static void main(final String[] args) {
+		long timeBudgetMillis = 1000;
+		int referenceDepth = 6;
+		String filter = null;
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			if (args[i].equals("-time")) {
+				timeBudgetMillis = Long.parseLong(args[i + 1]);
+			} else if (args[i].equals("-reference")) {
+				referenceDepth = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equals("-filter")) {
+				filter = args[i + 1];
+			}
+		}
+		final PrintStream console = System.out;
+		final Board[] boards = new Board[ChessBenchmarks.POSITIONS.length];
+		final Move[] referenceMoves = new Move[boards.length];
+		System.setOut(new PrintStream(new OutputStream() {
+			@Override
+			public void write(final int b) {
+			}
+		}));
+		try {
+			for (int i = 0; i < boards.length; i++) {
+				boards[i] = FenUtilities.createBoardFromFen(ChessBenchmarks.POSITIONS[i][1]);
+				referenceMoves[i] = createSearch("none", referenceDepth, AlphaBeta.NO_TIME_LIMIT).execute(boards[i]);
+			}
+			console.println(String.format("Time budget %d milliseconds, reference: full-width search to depth %d",
+					timeBudgetMillis, referenceDepth));
+			console.println(String.format("%-12s %-22s %6s %12s %10s %10s %10s %10s %10s %-8s", "technique", "position", "depth",
+					"nodes", "null-cut", "reduced", "re-search", "futility", "razor", "move"));
+			for (final String configuration : CONFIGURATIONS) {
+				if (filter != null && !configuration.contains(filter)) {
+					continue;
+				}
+				int totalDepth = 0;
+				long totalNodes = 0;
+				int agreements = 0;
+				for (int i = 0; i < boards.length; i++) {
+					final AlphaBeta search = createSearch(configuration, AlphaBeta.MAX_SEARCH_PLY - 1, timeBudgetMillis);
+					final Move bestMove = search.execute(boards[i]);
+					final boolean agrees = bestMove != null && bestMove.equals(referenceMoves[i]);
+					totalDepth += search.getCompletedDepth();
+					totalNodes += search.getNodesSearched();
+					agreements += agrees ? 1 : 0;
+					console.println(String.format("%-12s %-22s %6d %12d %10d %10d %10d %10d %10d %-8s", configuration,
+							ChessBenchmarks.POSITIONS[i][0], search.getCompletedDepth(), search.getNodesSearched(),
+							search.getNullMoveCutoffs(), search.getReducedSearches(), search.getReSearches(),
+							search.getFutilityPrunes(), search.getRazorCutoffs(),
+							CompactMove.toString(CompactMove.fromMove(bestMove)) + (agrees ? "" : " *")));
+				}
+				console.println(String.format("%-12s average depth %.2f, %d nodes, reference move agreement %d/%d",
+						configuration, (double) totalDepth / boards.length, totalNodes, agreements, boards.length));
+			}
+		} finally {
+			System.setOut(console);
+		}
+	}
+
+	private static AlphaBeta createSearch(final String configuration, final int searchDepth, final long timeBudgetMillis) {
+		final AlphaBeta search = new AlphaBeta(searchDepth, timeBudgetMillis);
+		final boolean all = configuration.equals("all");
+		search.setNullMovePruning(all || configuration.equals("null-move"));
+		search.setLateMoveReductions(all || configuration.equals("lmr"));
+		search.setFutilityPruning(all || configuration.equals("futility"));
+		search.setRazoring(all || configuration.equals("razoring"));
+		return search;
+	}
+}
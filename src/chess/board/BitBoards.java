@@ -0,0 +1,46 @@
+package chess.board;
+
+import chess.pieces.Alliance;
+import chess.pieces.Piece.PieceType;
+
+public final class BitBoards {
+
+	public static final int NUM_PIECE_TYPES = 6;
+	public static final int NUM_PIECE_INDICES = 12;
+	public static final long EMPTY = 0L;
+
+	private BitBoards() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static int pieceIndex(final Alliance alliance, final PieceType pieceType) {
+		return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+	}
+
+	public static long squareMask(final int coordinate) {
+		return 1L << coordinate;
+	}
+
+	public static boolean isSet(final long bitboard, final int coordinate) {
+		return (bitboard & (1L << coordinate)) != 0;
+	}
+
+	public static int firstSquare(final long bitboard) {
+		return Long.numberOfTrailingZeros(bitboard);
+	}
+
+	public static int count(final long bitboard) {
+		return Long.bitCount(bitboard);
+	}
+
+	public static String toString(final long bitboard) {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+			builder.append(isSet(bitboard, i) ? " 1" : " .");
+			if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
+				builder.append("\n");
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -1,6 +1,7 @@
 package chess.board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -10,20 +11,26 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
 import chess.pieces.Alliance;
-import chess.pieces.Bishop;
-import chess.pieces.King;
-import chess.pieces.Knight;
 import chess.pieces.Pawn;
 import chess.pieces.Piece;
-import chess.pieces.Queen;
-import chess.pieces.Rook;
+import chess.pieces.Piece.PieceType;
+import chess.pieces.PieceFactory;
 import chess.player.BlackPlayer;
+import chess.player.GameStatus;
 import chess.player.Player;
 import chess.player.WhitePlayer;
 
 public class Board {
 
-	private final List<Tile> gameBoard;
+	public static final int WHITE_KING_SIDE_CASTLE = 1;
+	public static final int WHITE_QUEEN_SIDE_CASTLE = 2;
+	public static final int BLACK_KING_SIDE_CASTLE = 4;
+	public static final int BLACK_QUEEN_SIDE_CASTLE = 8;
+
+	private final Piece[] boardPieces;
+	private final long[] pieceBitboards;
+	private final long whiteOccupancy;
+	private final long blackOccupancy;
 	private final Collection<Piece> whitePieces;
 	private final Collection<Piece> blackPieces;
 	
@@ -31,27 +38,87 @@ public class Board {
 	private final BlackPlayer blackPlayer;
 	private final Player currentPlayer;
 	
+	private Collection<Move> whiteStandardLegalMoves;
+	private Collection<Move> blackStandardLegalMoves;
+	
+	private final Alliance nextMoveMaker;
+	private final int castlingRights;
 	private final Pawn enPassantPawn;
+	private final long pieceKey;
+	private final long zobristKey;
+	private final int materialScore;
+	private final int positionalScore;
 	
 	private Board(final Builder builder) {
-		this.gameBoard = createGameBoard(builder);
-		this.whitePieces = calculateActivePieces(this.gameBoard, Alliance.WHITE);
-		this.blackPieces = calculateActivePieces(this.gameBoard, Alliance.BLACK);
+		this.boardPieces = createBoardPieces(builder);
+		this.pieceBitboards = calculatePieceBitboards(this.boardPieces);
+		this.whiteOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.WHITE);
+		this.blackOccupancy = calculateOccupancy(this.pieceBitboards, Alliance.BLACK);
+		this.whitePieces = calculateActivePieces(this.boardPieces, Alliance.WHITE);
+		this.blackPieces = calculateActivePieces(this.boardPieces, Alliance.BLACK);
+		this.nextMoveMaker = builder.nextMoveMaker;
+		this.castlingRights = calculateCastlingRights(this.boardPieces);
 		this.enPassantPawn = builder.enPassantPawn;
+		this.pieceKey = builder.isPieceKeySet ? builder.pieceKey : Zobrist.calculatePieceKey(this.boardPieces);
+		this.zobristKey = Zobrist.calculateKey(this.pieceKey, this.nextMoveMaker, this.castlingRights, getEnPassantSquare());
+		this.materialScore = builder.isScoreSet ? builder.materialScore : PieceSquareTables.calculateMaterialScore(this.boardPieces);
+		this.positionalScore = builder.isScoreSet ? builder.positionalScore : PieceSquareTables.calculatePositionalScore(this.boardPieces);
 		
-		final Collection<Move> whiteStandardLegalMoves = calculateLegalMoves(this.whitePieces);
-		final Collection<Move> blackStandardLegalMoves = calculateLegalMoves(this.blackPieces);
-		
-		this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-		this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+		this.whitePlayer = new WhitePlayer(this);
+		this.blackPlayer = new BlackPlayer(this);
 		this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
 	}
 	
+	private Board(final Board other) {
+		this.boardPieces = other.boardPieces;
+		this.pieceBitboards = other.pieceBitboards;
+		this.whiteOccupancy = other.whiteOccupancy;
+		this.blackOccupancy = other.blackOccupancy;
+		this.whitePieces = other.whitePieces;
+		this.blackPieces = other.blackPieces;
+		this.nextMoveMaker = other.nextMoveMaker;
+		this.castlingRights = other.castlingRights;
+		this.enPassantPawn = other.enPassantPawn;
+		this.pieceKey = other.pieceKey;
+		this.zobristKey = other.zobristKey;
+		this.materialScore = other.materialScore;
+		this.positionalScore = other.positionalScore;
+
+		this.whitePlayer = new WhitePlayer(this);
+		this.blackPlayer = new BlackPlayer(this);
+		this.currentPlayer = this.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
+	}
+
+	public Board copy() {
+		return new Board(this);
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (this.zobristKey ^ (this.zobristKey >>> 32));
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Board)) {
+			return false;
+		}
+		final Board otherBoard = (Board) other;
+		return this.zobristKey == otherBoard.zobristKey &&
+				this.nextMoveMaker == otherBoard.nextMoveMaker &&
+				this.castlingRights == otherBoard.castlingRights &&
+				getEnPassantSquare() == otherBoard.getEnPassantSquare() &&
+				Arrays.equals(this.pieceBitboards, otherBoard.pieceBitboards);
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
 		for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-			final String tileText = this.gameBoard.get(i).toString();
+			final String tileText = getTile(i).toString();
 			builder.append(String.format("%3s", tileText));
 			if((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
 				builder.append("\n");
@@ -68,76 +135,206 @@ public class Board {
 		return this.whitePieces;
 	}
 	
-	private Collection<Move> calculateLegalMoves(Collection<Piece> pieces) {
-		final List<Move> legalMoves = new ArrayList<>();
-		for (final Piece piece : pieces) {
-			legalMoves.addAll(piece.calculateLegalMoves(this));
+	public Collection<Move> getStandardLegalMoves(final Alliance alliance) {
+		if (alliance.isWhite()) {
+			Collection<Move> standardLegalMoves = this.whiteStandardLegalMoves;
+			if (standardLegalMoves == null) {
+				standardLegalMoves = calculateLegalMoves(this.whitePieces);
+				this.whiteStandardLegalMoves = standardLegalMoves;
+			}
+			return standardLegalMoves;
+		}
+		Collection<Move> standardLegalMoves = this.blackStandardLegalMoves;
+		if (standardLegalMoves == null) {
+			standardLegalMoves = calculateLegalMoves(this.blackPieces);
+			this.blackStandardLegalMoves = standardLegalMoves;
 		}
-		return ImmutableList.copyOf(legalMoves);
+		return standardLegalMoves;
+	}
+	
+	private Collection<Move> calculateLegalMoves(final Collection<Piece> pieces) {
+		return MoveGenerator.calculateLegalMoves(this, pieces);
 	}
 
-	private static Collection<Piece> calculateActivePieces(final List<Tile> gameBoard, final Alliance alliance) {
+	private static Collection<Piece> calculateActivePieces(final Piece[] boardPieces, final Alliance alliance) {
 		final List<Piece> activePieces = new ArrayList<>();
 		
-		for (final Tile tile : gameBoard) {
-			if(tile.isTileOccupied()) {
-				final Piece piece = tile.getPiece();
-				if(piece.getPieceAlliance() == alliance) {
-					activePieces.add(piece);
-				}
+		for (final Piece piece : boardPieces) {
+			if(piece != null && piece.getPieceAlliance() == alliance) {
+				activePieces.add(piece);
 			}
 		}
 		return ImmutableList.copyOf(activePieces);
 	}
 
-	private static List<Tile> createGameBoard(final Builder builder) {
-		final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
+	private static Piece[] createBoardPieces(final Builder builder) {
+		final Piece[] boardPieces = new Piece[BoardUtils.NUM_TILES];
+		for (final Piece piece : builder.boardConfig.values()) {
+			boardPieces[piece.getPiecePosition()] = piece;
+		}
+		return boardPieces;
+	}
+
+	private static long[] calculatePieceBitboards(final Piece[] boardPieces) {
+		final long[] pieceBitboards = new long[BitBoards.NUM_PIECE_INDICES];
 		for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-			tiles[i] = Tile.createTile(i, builder.boardConfig.get(i));
+			final Piece piece = boardPieces[i];
+			if (piece != null) {
+				pieceBitboards[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())] |= BitBoards.squareMask(i);
+			}
+		}
+		return pieceBitboards;
+	}
+
+	private static long calculateOccupancy(final long[] pieceBitboards, final Alliance alliance) {
+		long occupancy = BitBoards.EMPTY;
+		final int firstIndex = alliance.ordinal() * BitBoards.NUM_PIECE_TYPES;
+		for (int i = firstIndex; i < firstIndex + BitBoards.NUM_PIECE_TYPES; i++) {
+			occupancy |= pieceBitboards[i];
+		}
+		return occupancy;
+	}
+
+	private static int calculateCastlingRights(final Piece[] boardPieces) {
+		int castlingRights = 0;
+		if (isUnmovedPiece(boardPieces[60], Alliance.WHITE, PieceType.KING)) {
+			if (isUnmovedPiece(boardPieces[63], Alliance.WHITE, PieceType.ROOK)) {
+				castlingRights |= WHITE_KING_SIDE_CASTLE;
+			}
+			if (isUnmovedPiece(boardPieces[56], Alliance.WHITE, PieceType.ROOK)) {
+				castlingRights |= WHITE_QUEEN_SIDE_CASTLE;
+			}
 		}
-		return ImmutableList.copyOf(tiles);
+		if (isUnmovedPiece(boardPieces[4], Alliance.BLACK, PieceType.KING)) {
+			if (isUnmovedPiece(boardPieces[7], Alliance.BLACK, PieceType.ROOK)) {
+				castlingRights |= BLACK_KING_SIDE_CASTLE;
+			}
+			if (isUnmovedPiece(boardPieces[0], Alliance.BLACK, PieceType.ROOK)) {
+				castlingRights |= BLACK_QUEEN_SIDE_CASTLE;
+			}
+		}
+		return castlingRights;
+	}
+
+	private static boolean isUnmovedPiece(final Piece piece, final Alliance alliance, final PieceType pieceType) {
+		return piece != null && piece.isFirstMove() && piece.getPieceAlliance() == alliance && piece.getPieceType() == pieceType;
 	}
 
 	public Tile getTile(final int tileCoordinate) {
-		return gameBoard.get(tileCoordinate);
+		return Tile.createTile(tileCoordinate, this.boardPieces[tileCoordinate]);
+	}
+
+	public Piece getPiece(final int tileCoordinate) {
+		return this.boardPieces[tileCoordinate];
+	}
+
+	public boolean isTileOccupied(final int tileCoordinate) {
+		return BitBoards.isSet(getOccupancy(), tileCoordinate);
+	}
+
+	public long getPieceBitboard(final Alliance alliance, final PieceType pieceType) {
+		return this.pieceBitboards[BitBoards.pieceIndex(alliance, pieceType)];
+	}
+
+	long getPieceBitboard(final int pieceIndex) {
+		return this.pieceBitboards[pieceIndex];
+	}
+
+	public long getOccupancy(final Alliance alliance) {
+		return alliance.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+	}
+
+	public long getOccupancy() {
+		return this.whiteOccupancy | this.blackOccupancy;
+	}
+
+	public boolean isSquareAttacked(final int square, final Alliance byAlliance) {
+		final long occupancy = getOccupancy();
+		final long queens = getPieceBitboard(byAlliance, PieceType.QUEEN);
+		return (BoardUtils.KNIGHT_ATTACKS[square] & getPieceBitboard(byAlliance, PieceType.KNIGHT)) != 0 ||
+				(BoardUtils.PAWN_ATTACKS[byAlliance.ordinal() ^ 1][square] & getPieceBitboard(byAlliance, PieceType.PAWN)) != 0 ||
+				(BoardUtils.KING_ATTACKS[square] & getPieceBitboard(byAlliance, PieceType.KING)) != 0 ||
+				(MagicBitboards.bishopAttacks(square, occupancy) & (getPieceBitboard(byAlliance, PieceType.BISHOP) | queens)) != 0 ||
+				(MagicBitboards.rookAttacks(square, occupancy) & (getPieceBitboard(byAlliance, PieceType.ROOK) | queens)) != 0;
+	}
+
+	public long getAttackersOf(final int square, final Alliance byAlliance) {
+		return getAttackersOf(square, byAlliance, getOccupancy());
+	}
+
+	long getAttackersOf(final int square, final Alliance byAlliance, final long occupancy) {
+		final long queens = getPieceBitboard(byAlliance, PieceType.QUEEN);
+		return (BoardUtils.PAWN_ATTACKS[byAlliance.ordinal() ^ 1][square] & getPieceBitboard(byAlliance, PieceType.PAWN)) |
+				(BoardUtils.KNIGHT_ATTACKS[square] & getPieceBitboard(byAlliance, PieceType.KNIGHT)) |
+				(BoardUtils.KING_ATTACKS[square] & getPieceBitboard(byAlliance, PieceType.KING)) |
+				(MagicBitboards.bishopAttacks(square, occupancy) & (getPieceBitboard(byAlliance, PieceType.BISHOP) | queens)) |
+				(MagicBitboards.rookAttacks(square, occupancy) & (getPieceBitboard(byAlliance, PieceType.ROOK) | queens));
+	}
+
+	public Alliance getNextMoveMaker() {
+		return this.nextMoveMaker;
+	}
+
+	public int getCastlingRights() {
+		return this.castlingRights;
+	}
+
+	public boolean hasCastlingRight(final int castlingRight) {
+		return (this.castlingRights & castlingRight) != 0;
+	}
+
+	public long getZobristKey() {
+		return this.zobristKey;
+	}
+
+	long getPieceKey() {
+		return this.pieceKey;
+	}
+
+	public int getMaterialScore() {
+		return this.materialScore;
+	}
+
+	public int getPositionalScore() {
+		return this.positionalScore;
 	}
 	
 	public static Board createStandardBoard() {
 		final Builder builder = new Builder();
 		//Black side
-		builder.setPiece(new Rook(Alliance.BLACK, 0));
-		builder.setPiece(new Knight(Alliance.BLACK, 1));
-		builder.setPiece(new Bishop(Alliance.BLACK, 2));
-		builder.setPiece(new Queen(Alliance.BLACK, 3));
-		builder.setPiece(new King(Alliance.BLACK, 4));
-		builder.setPiece(new Bishop(Alliance.BLACK, 5));
-		builder.setPiece(new Knight(Alliance.BLACK, 6));
-		builder.setPiece(new Rook(Alliance.BLACK, 7));
-		builder.setPiece(new Pawn(Alliance.BLACK, 8));
-		builder.setPiece(new Pawn(Alliance.BLACK, 9));
-		builder.setPiece(new Pawn(Alliance.BLACK, 10));
-		builder.setPiece(new Pawn(Alliance.BLACK, 11));
-		builder.setPiece(new Pawn(Alliance.BLACK, 12));
-		builder.setPiece(new Pawn(Alliance.BLACK, 13));
-		builder.setPiece(new Pawn(Alliance.BLACK, 14));
-		builder.setPiece(new Pawn(Alliance.BLACK, 15));
+		builder.setPiece(PieceFactory.getPiece(PieceType.ROOK, Alliance.BLACK, 0));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KNIGHT, Alliance.BLACK, 1));
+		builder.setPiece(PieceFactory.getPiece(PieceType.BISHOP, Alliance.BLACK, 2));
+		builder.setPiece(PieceFactory.getPiece(PieceType.QUEEN, Alliance.BLACK, 3));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KING, Alliance.BLACK, 4));
+		builder.setPiece(PieceFactory.getPiece(PieceType.BISHOP, Alliance.BLACK, 5));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KNIGHT, Alliance.BLACK, 6));
+		builder.setPiece(PieceFactory.getPiece(PieceType.ROOK, Alliance.BLACK, 7));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 8));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 9));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 10));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 11));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 12));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 13));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 14));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.BLACK, 15));
 		//White side
-		builder.setPiece(new Pawn(Alliance.WHITE, 48));
-		builder.setPiece(new Pawn(Alliance.WHITE, 49));
-		builder.setPiece(new Pawn(Alliance.WHITE, 50));
-		builder.setPiece(new Pawn(Alliance.WHITE, 51));
-		builder.setPiece(new Pawn(Alliance.WHITE, 52));
-		builder.setPiece(new Pawn(Alliance.WHITE, 53));
-		builder.setPiece(new Pawn(Alliance.WHITE, 54));
-		builder.setPiece(new Pawn(Alliance.WHITE, 55));
-		builder.setPiece(new Rook(Alliance.WHITE, 56));
-		builder.setPiece(new Knight(Alliance.WHITE, 57));
-		builder.setPiece(new Bishop(Alliance.WHITE, 58));
-		builder.setPiece(new Queen(Alliance.WHITE, 59));
-		builder.setPiece(new King(Alliance.WHITE, 60));
-		builder.setPiece(new Bishop(Alliance.WHITE, 61));
-		builder.setPiece(new Knight(Alliance.WHITE, 62));
-		builder.setPiece(new Rook(Alliance.WHITE, 63));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 48));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 49));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 50));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 51));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 52));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 53));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 54));
+		builder.setPiece(PieceFactory.getPiece(PieceType.PAWN, Alliance.WHITE, 55));
+		builder.setPiece(PieceFactory.getPiece(PieceType.ROOK, Alliance.WHITE, 56));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KNIGHT, Alliance.WHITE, 57));
+		builder.setPiece(PieceFactory.getPiece(PieceType.BISHOP, Alliance.WHITE, 58));
+		builder.setPiece(PieceFactory.getPiece(PieceType.QUEEN, Alliance.WHITE, 59));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KING, Alliance.WHITE, 60));
+		builder.setPiece(PieceFactory.getPiece(PieceType.BISHOP, Alliance.WHITE, 61));
+		builder.setPiece(PieceFactory.getPiece(PieceType.KNIGHT, Alliance.WHITE, 62));
+		builder.setPiece(PieceFactory.getPiece(PieceType.ROOK, Alliance.WHITE, 63));
 		
 		builder.setMoveMaker(Alliance.WHITE);
 	
@@ -149,6 +346,11 @@ public class Board {
 		Map<Integer, Piece> boardConfig;
 		Alliance nextMoveMaker;
 		Pawn enPassantPawn;
+		long pieceKey;
+		boolean isPieceKeySet;
+		int materialScore;
+		int positionalScore;
+		boolean isScoreSet;
 		
 		public Builder() {
 			this.boardConfig = new HashMap<>();
@@ -164,12 +366,26 @@ public class Board {
 			return this;
 		}
 		
+		Builder setPieceKey(final long pieceKey) {
+			this.pieceKey = pieceKey;
+			this.isPieceKeySet = true;
+			return this;
+		}
+
+		Builder setScores(final int materialScore, final int positionalScore) {
+			this.materialScore = materialScore;
+			this.positionalScore = positionalScore;
+			this.isScoreSet = true;
+			return this;
+		}
+		
 		public Board build() {
 			return new Board(this);
 		}
 
-		public void setEnPassantPawn(Pawn enPassantPawn) {
+		public Builder setEnPassantPawn(final Pawn enPassantPawn) {
 			this.enPassantPawn = enPassantPawn;
+			return this;
 		}
 		
 	}
@@ -186,10 +402,21 @@ public class Board {
 		return this.currentPlayer;
 	}
 	
+	public GameStatus getGameStatus() {
+		return this.currentPlayer.getGameStatus();
+	}
+
 	public Pawn getEnPassantPawn() {
 		return this.enPassantPawn;
 	}
 
+	public int getEnPassantSquare() {
+		if (this.enPassantPawn == null) {
+			return -1;
+		}
+		return this.enPassantPawn.getPiecePosition() + (this.enPassantPawn.getPieceAlliance().getOppositeDirection() * BoardUtils.NUM_TILES_PER_ROW);
+	}
+
 	public Iterable<Move> getAllLegalMoves() {
 		return Iterables.unmodifiableIterable(Iterables.concat(this.whitePlayer().getLegalMoves(), this.blackPlayer().getLegalMoves()));
 	}
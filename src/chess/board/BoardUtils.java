@@ -1,9 +1,12 @@
 package chess.board;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Ints;
 
 public class BoardUtils {
 
@@ -42,12 +45,124 @@ public class BoardUtils {
 	public static final boolean[] SECOND_RANK = initRow(48);
 	public static final boolean[] FIRST_RANK = initRow(56);
 	
+	public static final int[][] KNIGHT_DESTINATIONS = initLeaperDestinations(new int[][] {
+			{ -2, -1 }, { -2, 1 }, { -1, -2 }, { -1, 2 }, { 1, -2 }, { 1, 2 }, { 2, -1 }, { 2, 1 } });
+	public static final int[][] KING_DESTINATIONS = initLeaperDestinations(new int[][] {
+			{ -1, -1 }, { -1, 0 }, { -1, 1 }, { 0, -1 }, { 0, 1 }, { 1, -1 }, { 1, 0 }, { 1, 1 } });
+	public static final int[][][] PAWN_PUSHES = { initPawnPushes(-1, 6), initPawnPushes(1, 1) };
+	public static final int[][][] PAWN_CAPTURES = {
+			initLeaperDestinations(new int[][] { { -1, -1 }, { -1, 1 } }),
+			initLeaperDestinations(new int[][] { { 1, -1 }, { 1, 1 } }) };
+	public static final int[][][] ROOK_RAYS = initRays(new int[][] { { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 } });
+	public static final int[][][] BISHOP_RAYS = initRays(new int[][] { { -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 } });
+
+	public static final long[] KNIGHT_ATTACKS = initAttackMasks(KNIGHT_DESTINATIONS);
+	public static final long[] KING_ATTACKS = initAttackMasks(KING_DESTINATIONS);
+	public static final long[][] PAWN_ATTACKS = { initAttackMasks(PAWN_CAPTURES[0]), initAttackMasks(PAWN_CAPTURES[1]) };
+
+	public static final long[][] BETWEEN = initAlignedMasks(false);
+	public static final long[][] LINE = initAlignedMasks(true);
+	
 	public static final String[] ALGEBREIC_NOTATION = initializeAlgebraicNotation();
 	public static final Map<String, Integer> POSITION_TO_COORDINATE = initializePositionToCoordinateMap();
 
 	public static final int NUM_TILES = 64;
 	public static final int NUM_TILES_PER_ROW = 8;
 	
+	private static int[][] initLeaperDestinations(final int[][] steps) {
+		final int[][] destinations = new int[NUM_TILES][];
+		for (int i = 0; i < NUM_TILES; i++) {
+			final List<Integer> squareDestinations = new ArrayList<>();
+			for (final int[] step : steps) {
+				final int row = i / NUM_TILES_PER_ROW + step[0];
+				final int column = i % NUM_TILES_PER_ROW + step[1];
+				if (isOnBoard(row, column)) {
+					squareDestinations.add(row * NUM_TILES_PER_ROW + column);
+				}
+			}
+			destinations[i] = Ints.toArray(squareDestinations);
+		}
+		return destinations;
+	}
+
+	private static int[][] initPawnPushes(final int rowDirection, final int startRow) {
+		final int[][] pushes = new int[NUM_TILES][];
+		for (int i = 0; i < NUM_TILES; i++) {
+			final int row = i / NUM_TILES_PER_ROW;
+			if (!isOnBoard(row + rowDirection, 0)) {
+				pushes[i] = new int[0];
+			} else if (row == startRow) {
+				pushes[i] = new int[] { i + rowDirection * NUM_TILES_PER_ROW, i + 2 * rowDirection * NUM_TILES_PER_ROW };
+			} else {
+				pushes[i] = new int[] { i + rowDirection * NUM_TILES_PER_ROW };
+			}
+		}
+		return pushes;
+	}
+
+	private static int[][][] initRays(final int[][] directions) {
+		final int[][][] rays = new int[NUM_TILES][directions.length][];
+		for (int i = 0; i < NUM_TILES; i++) {
+			for (int j = 0; j < directions.length; j++) {
+				final List<Integer> ray = new ArrayList<>();
+				int row = i / NUM_TILES_PER_ROW + directions[j][0];
+				int column = i % NUM_TILES_PER_ROW + directions[j][1];
+				while (isOnBoard(row, column)) {
+					ray.add(row * NUM_TILES_PER_ROW + column);
+					row += directions[j][0];
+					column += directions[j][1];
+				}
+				rays[i][j] = Ints.toArray(ray);
+			}
+		}
+		return rays;
+	}
+
+	private static long[] initAttackMasks(final int[][] destinations) {
+		final long[] attackMasks = new long[NUM_TILES];
+		for (int i = 0; i < NUM_TILES; i++) {
+			for (final int destination : destinations[i]) {
+				attackMasks[i] |= 1L << destination;
+			}
+		}
+		return attackMasks;
+	}
+
+	private static long[][] initAlignedMasks(final boolean fullLine) {
+		final long[][] masks = new long[NUM_TILES][NUM_TILES];
+		for (int from = 0; from < NUM_TILES; from++) {
+			for (int to = 0; to < NUM_TILES; to++) {
+				final int rowDelta = to / NUM_TILES_PER_ROW - from / NUM_TILES_PER_ROW;
+				final int columnDelta = to % NUM_TILES_PER_ROW - from % NUM_TILES_PER_ROW;
+				if (from == to || (rowDelta != 0 && columnDelta != 0 && Math.abs(rowDelta) != Math.abs(columnDelta))) {
+					continue;
+				}
+				final int rowStep = Integer.signum(rowDelta);
+				final int columnStep = Integer.signum(columnDelta);
+				int row = from / NUM_TILES_PER_ROW + (fullLine ? -rowStep : rowStep);
+				int column = from % NUM_TILES_PER_ROW + (fullLine ? -columnStep : columnStep);
+				if (fullLine) {
+					while (isOnBoard(row, column)) {
+						row -= rowStep;
+						column -= columnStep;
+					}
+					row += rowStep;
+					column += columnStep;
+				}
+				while (isOnBoard(row, column) && (fullLine || row * NUM_TILES_PER_ROW + column != to)) {
+					masks[from][to] |= 1L << (row * NUM_TILES_PER_ROW + column);
+					row += rowStep;
+					column += columnStep;
+				}
+			}
+		}
+		return masks;
+	}
+
+	private static boolean isOnBoard(final int row, final int column) {
+		return row >= 0 && row < NUM_TILES_PER_ROW && column >= 0 && column < NUM_TILES_PER_ROW;
+	}
+
 	private static Map<String, Integer> initializePositionToCoordinateMap() {
         final Map<String, Integer> positionToCoordinate = new HashMap<>();
         for (int i = 0; i < NUM_TILES; i++) {
@@ -0,0 +1,131 @@
+package chess.board;
+
+import chess.board.Move.CastleMove;
+import chess.board.Move.KingSideCastleMove;
+import chess.board.Move.PawnEnPassantAttackMove;
+import chess.board.Move.PawnJump;
+import chess.board.Move.PawnPromotion;
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+
+public final class CompactMove {
+
+	public static final int NULL_MOVE = 0;
+	public static final int NO_PIECE = -1;
+
+	public static final int QUIET = 0;
+	public static final int DOUBLE_PAWN_PUSH = 1;
+	public static final int KING_CASTLE = 2;
+	public static final int QUEEN_CASTLE = 3;
+	public static final int CAPTURE = 4;
+	public static final int EN_PASSANT = 5;
+	public static final int PROMOTION = 8;
+	public static final int PROMOTION_CAPTURE = 12;
+
+	private static final int SQUARE_MASK = 0x3F;
+	private static final int FLAG_MASK = 0xF;
+	private static final int PIECE_MASK = 0xF;
+	private static final int PROMOTION_MASK = 0x7;
+
+	private static final int TO_SHIFT = 6;
+	private static final int FLAG_SHIFT = 12;
+	private static final int MOVED_PIECE_SHIFT = 16;
+	private static final int CAPTURED_PIECE_SHIFT = 20;
+	private static final int PROMOTION_SHIFT = 24;
+
+	private static final PieceType[] PIECE_TYPES = PieceType.values();
+	private static final String PROMOTION_NAMES = "pnbrqk";
+
+	private CompactMove() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static int createMove(final int from, final int to, final int flag, final int movedPiece, final int capturedPiece) {
+		return from | (to << TO_SHIFT) | (flag << FLAG_SHIFT) | (movedPiece << MOVED_PIECE_SHIFT) |
+				((capturedPiece + 1) << CAPTURED_PIECE_SHIFT);
+	}
+
+	public static int createPromotion(final int from, final int to, final int flag, final int movedPiece, final int capturedPiece,
+			final PieceType promotionType) {
+		return createMove(from, to, flag, movedPiece, capturedPiece) | (promotionType.ordinal() << PROMOTION_SHIFT);
+	}
+
+	public static int getFrom(final int move) {
+		return move & SQUARE_MASK;
+	}
+
+	public static int getTo(final int move) {
+		return (move >>> TO_SHIFT) & SQUARE_MASK;
+	}
+
+	public static int getFlag(final int move) {
+		return (move >>> FLAG_SHIFT) & FLAG_MASK;
+	}
+
+	public static int getMovedPiece(final int move) {
+		return (move >>> MOVED_PIECE_SHIFT) & PIECE_MASK;
+	}
+
+	public static int getCapturedPiece(final int move) {
+		return ((move >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK) - 1;
+	}
+
+	public static PieceType getPromotionType(final int move) {
+		return isPromotion(move) ? PIECE_TYPES[(move >>> PROMOTION_SHIFT) & PROMOTION_MASK] : null;
+	}
+
+	public static boolean isCapture(final int move) {
+		return (getFlag(move) & CAPTURE) != 0;
+	}
+
+	public static boolean isPromotion(final int move) {
+		return (getFlag(move) & PROMOTION) != 0;
+	}
+
+	public static boolean isCastle(final int move) {
+		final int flag = getFlag(move);
+		return flag == KING_CASTLE || flag == QUEEN_CASTLE;
+	}
+
+	public static int fromMove(final Move move) {
+		if (move == null || move == Move.NULL_MOVE || move.getMovedPiece() == null) {
+			return NULL_MOVE;
+		}
+		final Piece movedPiece = move.getMovedPiece();
+		final int movedIndex = BitBoards.pieceIndex(movedPiece.getPieceAlliance(), movedPiece.getPieceType());
+		final Piece attackedPiece = move.getAttackedPiece();
+		final int capturedIndex = attackedPiece == null ? NO_PIECE :
+				BitBoards.pieceIndex(attackedPiece.getPieceAlliance(), attackedPiece.getPieceType());
+		final int from = move.getCurrentCoordinate();
+		final int to = move.getDestinationCoordinate();
+		if (move instanceof PawnPromotion) {
+			return createPromotion(from, to, move.isAttack() ? PROMOTION_CAPTURE : PROMOTION, movedIndex, capturedIndex,
+					((PawnPromotion) move).getPromotionType());
+		}
+		if (move instanceof CastleMove) {
+			return createMove(from, to, move instanceof KingSideCastleMove ? KING_CASTLE : QUEEN_CASTLE, movedIndex, NO_PIECE);
+		}
+		if (move instanceof PawnEnPassantAttackMove) {
+			return createMove(from, to, EN_PASSANT, movedIndex, capturedIndex);
+		}
+		if (move instanceof PawnJump) {
+			return createMove(from, to, DOUBLE_PAWN_PUSH, movedIndex, NO_PIECE);
+		}
+		return createMove(from, to, move.isAttack() ? CAPTURE : QUIET, movedIndex, capturedIndex);
+	}
+
+	public static Move toMove(final Board board, final int move) {
+		if (move == NULL_MOVE) {
+			return Move.NULL_MOVE;
+		}
+		return Move.MoveFactory.createMove(board, getFrom(move), getTo(move), getPromotionType(move));
+	}
+
+	public static String toString(final int move) {
+		if (move == NULL_MOVE) {
+			return "0000";
+		}
+		final String squares = BoardUtils.getPositionAtCoordinate(getFrom(move)) + BoardUtils.getPositionAtCoordinate(getTo(move));
+		return isPromotion(move) ? squares + PROMOTION_NAMES.charAt(getPromotionType(move).ordinal()) : squares;
+	}
+}
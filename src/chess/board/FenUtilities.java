@@ -0,0 +1,84 @@
+package chess.board;
+
+import chess.pieces.Alliance;
+import chess.pieces.Pawn;
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+import chess.pieces.PieceFactory;
+
+public final class FenUtilities {
+
+	private static final String PIECE_CHARACTERS = "pnbrqk";
+
+	private FenUtilities() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static Board createBoardFromFen(final String fen) {
+		final String[] fields = fen.trim().split("\\s+");
+		if (fields.length < 2) {
+			throw new IllegalArgumentException("Invalid FEN: " + fen);
+		}
+		final String castling = fields.length > 2 ? fields[2] : "-";
+		final String enPassant = fields.length > 3 ? fields[3] : "-";
+		final Board.Builder builder = new Board.Builder();
+		int coordinate = 0;
+		for (final char c : fields[0].toCharArray()) {
+			if (c == '/') {
+				continue;
+			}
+			if (Character.isDigit(c)) {
+				coordinate += c - '0';
+				continue;
+			}
+			final int typeIndex = PIECE_CHARACTERS.indexOf(Character.toLowerCase(c));
+			if (typeIndex < 0 || coordinate >= BoardUtils.NUM_TILES) {
+				throw new IllegalArgumentException("Invalid FEN: " + fen);
+			}
+			final PieceType pieceType = PieceType.values()[typeIndex];
+			final Alliance alliance = Character.isUpperCase(c) ? Alliance.WHITE : Alliance.BLACK;
+			builder.setPiece(PieceFactory.getPiece(pieceType, alliance, coordinate,
+					isFirstMove(pieceType, alliance, coordinate, castling)));
+			coordinate++;
+		}
+		if (coordinate != BoardUtils.NUM_TILES) {
+			throw new IllegalArgumentException("Invalid FEN: " + fen);
+		}
+		final Alliance moveMaker = fields[1].equals("b") ? Alliance.BLACK : Alliance.WHITE;
+		builder.setMoveMaker(moveMaker);
+		if (!enPassant.equals("-")) {
+			final int enPassantSquare = BoardUtils.getCoordinateAtPosition(enPassant);
+			final int pawnCoordinate = enPassantSquare + moveMaker.getOppositeDirection() * BoardUtils.NUM_TILES_PER_ROW;
+			final Piece pawn = builder.boardConfig.get(pawnCoordinate);
+			if (pawn != null && pawn.getPieceType() == PieceType.PAWN && pawn.getPieceAlliance() != moveMaker) {
+				builder.setEnPassantPawn((Pawn) pawn);
+			}
+		}
+		return builder.build();
+	}
+
+	private static boolean isFirstMove(final PieceType pieceType, final Alliance alliance, final int coordinate, final String castling) {
+		switch (pieceType) {
+		case PAWN:
+			return alliance.isWhite() ? BoardUtils.SECOND_RANK[coordinate] : BoardUtils.SEVENTH_RANK[coordinate];
+		case KING:
+			return alliance.isWhite() ? coordinate == 60 && (castling.indexOf('K') >= 0 || castling.indexOf('Q') >= 0) :
+					coordinate == 4 && (castling.indexOf('k') >= 0 || castling.indexOf('q') >= 0);
+		case ROOK:
+			switch (coordinate) {
+			case 63:
+				return alliance.isWhite() && castling.indexOf('K') >= 0;
+			case 56:
+				return alliance.isWhite() && castling.indexOf('Q') >= 0;
+			case 7:
+				return alliance.isBlack() && castling.indexOf('k') >= 0;
+			case 0:
+				return alliance.isBlack() && castling.indexOf('q') >= 0;
+			default:
+				return false;
+			}
+		default:
+			return false;
+		}
+	}
+}
@@ -3,6 +3,8 @@ package chess.board;
 import chess.board.Board.Builder;
 import chess.pieces.Pawn;
 import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+import chess.pieces.PieceFactory;
 import chess.pieces.Rook;
 
 public abstract class Move {
@@ -91,11 +93,32 @@ public abstract class Move {
 		for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
 			builder.setPiece(piece);
 		}
-		builder.setPiece(this.movedPiece.movePiece(this));
+		final Piece destinationPiece = this.movedPiece.movePiece(this);
+		builder.setPiece(destinationPiece);
 		builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+		setIncrementalState(builder, destinationPiece);
 		return builder.build();
 	}
 	
+	protected Piece getCapturedPiece() {
+		return this.board.getPiece(this.destinationCoordinate);
+	}
+	
+	protected void setIncrementalState(final Builder builder, final Piece destinationPiece) {
+		long pieceKey = this.board.getPieceKey() ^ Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(destinationPiece);
+		int materialScore = this.board.getMaterialScore();
+		int positionalScore = this.board.getPositionalScore() - PieceSquareTables.positionalValue(this.movedPiece) + 
+				PieceSquareTables.positionalValue(destinationPiece);
+		final Piece capturedPiece = getCapturedPiece();
+		if (capturedPiece != null) {
+			pieceKey ^= Zobrist.pieceKey(capturedPiece);
+			materialScore -= PieceSquareTables.materialValue(capturedPiece);
+			positionalScore -= PieceSquareTables.positionalValue(capturedPiece);
+		}
+		builder.setPieceKey(pieceKey);
+		builder.setScores(materialScore, positionalScore);
+	}
+	
 	public static class AttackMove extends Move {
 		
 		private final Piece attackedPiece;
@@ -191,10 +214,17 @@ public abstract class Move {
 					builder.setPiece(piece);
 				}
 			}
-			builder.setPiece(this.movedPiece.movePiece(this));
+			final Piece destinationPiece = this.movedPiece.movePiece(this);
+			builder.setPiece(destinationPiece);
 			builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+			setIncrementalState(builder, destinationPiece);
 			return builder.build();
 		}
+		
+		@Override
+		protected Piece getCapturedPiece() {
+			return getAttackedPiece();
+		}
 	}
 	
 	public static final class MajorMove extends Move{
@@ -230,15 +260,61 @@ public abstract class Move {
 		}
 	}
 	
+	public static final class PawnJump extends Move {
+
+		public PawnJump(final Board board, final Piece movedPiece, final int destinationCoordinate) {
+			super(board, movedPiece, destinationCoordinate);
+		}
+		
+		@Override
+		public boolean equals(final Object other) {
+			return this == other || other instanceof PawnJump && super.equals(other);
+		}
+		
+		@Override
+		public Board execute() {
+			final Builder builder = new Builder();
+			for (final Piece piece : this.board.currentPlayer().getActivePieces()) {
+				if (!this.movedPiece.equals(piece)) {
+					builder.setPiece(piece);
+				}
+			}
+			for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
+				builder.setPiece(piece);
+			}
+			final Pawn movedPawn = (Pawn) this.movedPiece.movePiece(this);
+			builder.setPiece(movedPawn);
+			builder.setEnPassantPawn(movedPawn);
+			builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+			setIncrementalState(builder, movedPawn);
+			return builder.build();
+		}
+		
+		@Override
+		public String toString() {
+			return BoardUtils.getPositionAtCoordinate(this.destinationCoordinate);
+		}
+	}
+	
 	public static final class PawnPromotion extends Move {
 		
 		final Move decoratedMove;
 		final Pawn promotedPawn;
+		final PieceType promotionType;
 		
 		public PawnPromotion(final Move decoratedMove) {
+			this(decoratedMove, PieceType.QUEEN);
+		}
+		
+		public PawnPromotion(final Move decoratedMove, final PieceType promotionType) {
 			super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(), decoratedMove.getDestinationCoordinate());
 			this.decoratedMove = decoratedMove;
 			this.promotedPawn = (Pawn) decoratedMove.getMovedPiece();
+			this.promotionType = promotionType;
+		}
+		
+		public PieceType getPromotionType() {
+			return this.promotionType;
 		}
 		
 		@Override
@@ -253,8 +329,16 @@ public abstract class Move {
 			for (final Piece piece : pawnMovedBoard.currentPlayer().getOpponent().getActivePieces()) {
 				builder.setPiece(piece);
 			}
-			builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
+			final Piece promotionPiece = PieceFactory.getPiece(this.promotionType, this.promotedPawn.getPieceAlliance(), 
+					this.destinationCoordinate, false);
+			builder.setPiece(promotionPiece);
 			builder.setMoveMaker(pawnMovedBoard.currentPlayer().getAlliance());
+			final Piece movedPawn = pawnMovedBoard.getPiece(this.destinationCoordinate);
+			builder.setPieceKey(pawnMovedBoard.getPieceKey() ^ Zobrist.pieceKey(movedPawn) ^ Zobrist.pieceKey(promotionPiece));
+			builder.setScores(pawnMovedBoard.getMaterialScore() - PieceSquareTables.materialValue(movedPawn) + 
+					PieceSquareTables.materialValue(promotionPiece), 
+					pawnMovedBoard.getPositionalScore() - PieceSquareTables.positionalValue(movedPawn) + 
+					PieceSquareTables.positionalValue(promotionPiece));
 			return builder.build();
 		}
 		
@@ -270,12 +354,18 @@ public abstract class Move {
 		
 		@Override
 		public int hashCode() {
-			return decoratedMove.hashCode() + (31 * promotedPawn.hashCode());
+			return decoratedMove.hashCode() + (31 * promotedPawn.hashCode()) + promotionType.ordinal();
 		}
 		
 		@Override
 		public boolean equals(final Object other) {
-			return this == other || other instanceof PawnPromotion && (super.equals(other));
+			return this == other || other instanceof PawnPromotion && (super.equals(other)) && 
+					this.promotionType == ((PawnPromotion) other).promotionType;
+		}
+		
+		@Override
+		public String toString() {
+			return this.decoratedMove.toString() + "=" + this.promotionType;
 		}
 	}
 	
@@ -312,9 +402,17 @@ public abstract class Move {
 			for (final Piece piece : this.board.currentPlayer().getOpponent().getActivePieces()) {
 				builder.setPiece(piece);
 			}
-			builder.setPiece(this.movedPiece.movePiece(this));
-			builder.setPiece(new Rook(this.castleRook.getPieceAlliance(), this.castleRookDestination));
+			final Piece movedKing = this.movedPiece.movePiece(this);
+			final Piece movedRook = PieceFactory.getPiece(PieceType.ROOK, this.castleRook.getPieceAlliance(), this.castleRookDestination, false);
+			builder.setPiece(movedKing);
+			builder.setPiece(movedRook);
 			builder.setMoveMaker(this.board.currentPlayer().getOpponent().getAlliance());
+			builder.setPieceKey(this.board.getPieceKey() ^ 
+					Zobrist.pieceKey(this.movedPiece) ^ Zobrist.pieceKey(movedKing) ^ 
+					Zobrist.pieceKey(this.castleRook) ^ Zobrist.pieceKey(movedRook));
+			builder.setScores(this.board.getMaterialScore(), this.board.getPositionalScore() - 
+					PieceSquareTables.positionalValue(this.movedPiece) + PieceSquareTables.positionalValue(movedKing) - 
+					PieceSquareTables.positionalValue(this.castleRook) + PieceSquareTables.positionalValue(movedRook));
 			return builder.build();
 		}
 		
@@ -396,12 +494,16 @@ public abstract class Move {
 		}
 		
 		public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate) {
-			for (final Move move : board.getAllLegalMoves()) {
-				if (move.getCurrentCoordinate() == currentCoordinate && move.getDestinationCoordinate() == destinationCoordinate) {
-					return move;
-				}
+			return createMove(board, currentCoordinate, destinationCoordinate, null);
+		}
+		
+		public static Move createMove(final Board board, final int currentCoordinate, final int destinationCoordinate,
+				final PieceType promotionType) {
+			Move move = board.currentPlayer().getLegalMove(currentCoordinate, destinationCoordinate, promotionType);
+			if (move == null) {
+				move = board.currentPlayer().getOpponent().getLegalMove(currentCoordinate, destinationCoordinate, promotionType);
 			}
-			return NULL_MOVE;
+			return move != null ? move : NULL_MOVE;
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package chess.board;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import chess.pieces.Alliance;
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+
+public final class MoveGenerator {
+
+	private static final long ALL_SQUARES = ~0L;
+	private static final int NO_KING_SQUARE = -1;
+	private static final PieceType[] PROMOTION_TYPES = { PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT };
+
+	private MoveGenerator() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static Collection<Move> calculateLegalMoves(final Board board, final Collection<Piece> pieces) {
+		final List<Move> legalMoves = new ArrayList<>();
+		for (final Piece piece : pieces) {
+			addLegalMoves(board, piece, ALL_SQUARES, NO_KING_SQUARE, legalMoves);
+		}
+		return ImmutableList.copyOf(legalMoves);
+	}
+
+	public static Collection<Move> calculateLegalMoves(final Board board, final Piece piece) {
+		final List<Move> legalMoves = new ArrayList<>();
+		addLegalMoves(board, piece, ALL_SQUARES, NO_KING_SQUARE, legalMoves);
+		return ImmutableList.copyOf(legalMoves);
+	}
+
+	public static Collection<Move> calculateFullyLegalMoves(final Board board, final Alliance alliance, final Collection<Piece> pieces) {
+		final Alliance opponent = alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+		final long occupancy = board.getOccupancy();
+		final long kingBitboard = board.getPieceBitboard(alliance, PieceType.KING);
+		final int kingSquare = BitBoards.firstSquare(kingBitboard);
+		final long checkers = board.getAttackersOf(kingSquare, opponent, occupancy);
+		final long pinnedPieces = calculatePinnedPieces(board, kingSquare, alliance, opponent);
+		final long checkMask = calculateCheckMask(kingSquare, checkers);
+
+		long kingMask = 0L;
+		long kingTargets = BoardUtils.KING_ATTACKS[kingSquare] & ~board.getOccupancy(alliance);
+		while (kingTargets != 0) {
+			final int kingTarget = BitBoards.firstSquare(kingTargets);
+			kingTargets &= kingTargets - 1;
+			if (board.getAttackersOf(kingTarget, opponent, occupancy ^ kingBitboard) == 0) {
+				kingMask |= BitBoards.squareMask(kingTarget);
+			}
+		}
+
+		final List<Move> legalMoves = new ArrayList<>();
+		for (final Piece piece : pieces) {
+			final int piecePosition = piece.getPiecePosition();
+			if (piecePosition == kingSquare) {
+				addLegalMoves(board, piece, kingMask, kingSquare, legalMoves);
+			} else if (checkMask != 0) {
+				final long pinMask = BitBoards.isSet(pinnedPieces, piecePosition) ? BoardUtils.LINE[kingSquare][piecePosition] : ALL_SQUARES;
+				addLegalMoves(board, piece, checkMask & pinMask, kingSquare, legalMoves);
+			}
+		}
+		return ImmutableList.copyOf(legalMoves);
+	}
+
+	private static long calculatePinnedPieces(final Board board, final int kingSquare, final Alliance alliance, final Alliance opponent) {
+		final long opponentOccupancy = board.getOccupancy(opponent);
+		final long queens = board.getPieceBitboard(opponent, PieceType.QUEEN);
+		long snipers = (MagicBitboards.rookAttacks(kingSquare, opponentOccupancy) & (board.getPieceBitboard(opponent, PieceType.ROOK) | queens)) |
+				(MagicBitboards.bishopAttacks(kingSquare, opponentOccupancy) & (board.getPieceBitboard(opponent, PieceType.BISHOP) | queens));
+		long pinnedPieces = 0L;
+		while (snipers != 0) {
+			final int sniperSquare = BitBoards.firstSquare(snipers);
+			snipers &= snipers - 1;
+			final long blockers = BoardUtils.BETWEEN[kingSquare][sniperSquare] & board.getOccupancy();
+			if (BitBoards.count(blockers) == 1) {
+				pinnedPieces |= blockers & board.getOccupancy(alliance);
+			}
+		}
+		return pinnedPieces;
+	}
+
+	private static long calculateCheckMask(final int kingSquare, final long checkers) {
+		if (checkers == 0) {
+			return ALL_SQUARES;
+		}
+		if (BitBoards.count(checkers) > 1) {
+			return 0L;
+		}
+		return checkers | BoardUtils.BETWEEN[kingSquare][BitBoards.firstSquare(checkers)];
+	}
+
+	private static boolean isEnPassantLegal(final Board board, final Piece pawn, final int kingSquare) {
+		final Piece capturedPawn = board.getEnPassantPawn();
+		final long capturedMask = BitBoards.squareMask(capturedPawn.getPiecePosition());
+		final long occupancy = (board.getOccupancy() ^ BitBoards.squareMask(pawn.getPiecePosition()) ^ capturedMask) |
+				BitBoards.squareMask(board.getEnPassantSquare());
+		return (board.getAttackersOf(kingSquare, capturedPawn.getPieceAlliance(), occupancy) & ~capturedMask) == 0;
+	}
+
+	private static void addLegalMoves(final Board board, final Piece piece, final long targetMask, final int kingSquare,
+			final List<Move> legalMoves) {
+		final int piecePosition = piece.getPiecePosition();
+		switch (piece.getPieceType()) {
+		case PAWN:
+			addPawnMoves(board, piece, targetMask, kingSquare, legalMoves);
+			break;
+		case KNIGHT:
+			addLeaperMoves(board, piece, BoardUtils.KNIGHT_DESTINATIONS[piecePosition], targetMask, legalMoves);
+			break;
+		case BISHOP:
+			addSliderMoves(board, piece, MagicBitboards.bishopAttacks(piecePosition, board.getOccupancy()) & targetMask, legalMoves);
+			break;
+		case ROOK:
+			addSliderMoves(board, piece, MagicBitboards.rookAttacks(piecePosition, board.getOccupancy()) & targetMask, legalMoves);
+			break;
+		case QUEEN:
+			addSliderMoves(board, piece, MagicBitboards.queenAttacks(piecePosition, board.getOccupancy()) & targetMask, legalMoves);
+			break;
+		case KING:
+			addLeaperMoves(board, piece, BoardUtils.KING_DESTINATIONS[piecePosition], targetMask, legalMoves);
+			break;
+		}
+	}
+
+	private static void addLeaperMoves(final Board board, final Piece piece, final int[] destinations, final long targetMask,
+			final List<Move> legalMoves) {
+		for (final int possibleDestination : destinations) {
+			if (!BitBoards.isSet(targetMask, possibleDestination)) {
+				continue;
+			}
+			final Piece pieceAtDestination = board.getPiece(possibleDestination);
+			if (pieceAtDestination == null) {
+				legalMoves.add(new Move.MajorMove(board, piece, possibleDestination));
+			} else if (pieceAtDestination.getPieceAlliance() != piece.getPieceAlliance()) {
+				legalMoves.add(new Move.MajorAttackMove(board, piece, possibleDestination, pieceAtDestination));
+			}
+		}
+	}
+
+	private static void addSliderMoves(final Board board, final Piece piece, final long attacks, final List<Move> legalMoves) {
+		long possibleDestinations = attacks & ~board.getOccupancy(piece.getPieceAlliance());
+		while (possibleDestinations != 0) {
+			final int possibleDestination = BitBoards.firstSquare(possibleDestinations);
+			possibleDestinations &= possibleDestinations - 1;
+			final Piece pieceAtDestination = board.getPiece(possibleDestination);
+			if (pieceAtDestination == null) {
+				legalMoves.add(new Move.MajorMove(board, piece, possibleDestination));
+			} else {
+				legalMoves.add(new Move.MajorAttackMove(board, piece, possibleDestination, pieceAtDestination));
+			}
+		}
+	}
+
+	private static void addPawnMoves(final Board board, final Piece pawn, final long targetMask, final int kingSquare,
+			final List<Move> legalMoves) {
+		final Alliance pawnAlliance = pawn.getPieceAlliance();
+		final int[] pushes = BoardUtils.PAWN_PUSHES[pawnAlliance.ordinal()][pawn.getPiecePosition()];
+		if (pushes.length > 0 && !board.isTileOccupied(pushes[0])) {
+			if (BitBoards.isSet(targetMask, pushes[0])) {
+				if (pawnAlliance.isPawnPromotionSquare(pushes[0])) {
+					addPromotions(new Move.PawnMove(board, pawn, pushes[0]), legalMoves);
+				} else {
+					legalMoves.add(new Move.PawnMove(board, pawn, pushes[0]));
+				}
+			}
+			if (pushes.length > 1 && !board.isTileOccupied(pushes[1]) && BitBoards.isSet(targetMask, pushes[1])) {
+				legalMoves.add(new Move.PawnJump(board, pawn, pushes[1]));
+			}
+		}
+		for (final int possibleDestination : BoardUtils.PAWN_CAPTURES[pawnAlliance.ordinal()][pawn.getPiecePosition()]) {
+			final Piece pieceOnCandidate = board.getPiece(possibleDestination);
+			if (pieceOnCandidate != null) {
+				if (!BitBoards.isSet(targetMask, possibleDestination)) {
+					continue;
+				}
+				if (pieceOnCandidate.getPieceAlliance() != pawnAlliance) {
+					if (pawnAlliance.isPawnPromotionSquare(possibleDestination)) {
+						addPromotions(new Move.PawnAttackMove(board, pawn, possibleDestination, pieceOnCandidate), legalMoves);
+					} else {
+						legalMoves.add(new Move.PawnAttackMove(board, pawn, possibleDestination, pieceOnCandidate));
+					}
+				}
+			} else if (possibleDestination == board.getEnPassantSquare() &&
+					board.getEnPassantPawn().getPieceAlliance() != pawnAlliance &&
+					(kingSquare == NO_KING_SQUARE || isEnPassantLegal(board, pawn, kingSquare))) {
+				legalMoves.add(new Move.PawnEnPassantAttackMove(board, pawn, possibleDestination, board.getEnPassantPawn()));
+			}
+		}
+	}
+
+	private static void addPromotions(final Move decoratedMove, final List<Move> legalMoves) {
+		for (final PieceType promotionType : PROMOTION_TYPES) {
+			legalMoves.add(new Move.PawnPromotion(decoratedMove, promotionType));
+		}
+	}
+}
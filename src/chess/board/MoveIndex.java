@@ -0,0 +1,75 @@
+package chess.board;
+
+import java.util.Collection;
+
+import chess.board.Move.PawnPromotion;
+import chess.pieces.Piece.PieceType;
+
+public final class MoveIndex {
+
+	private static final int EMPTY_KEY = 0;
+	private static final int HASH_MULTIPLIER = 0x9E3779B1;
+
+	private final int[] keys;
+	private final Move[] moves;
+	private final int shift;
+	private final int mask;
+
+	public MoveIndex(final Collection<Move> legalMoves) {
+		final int capacity = Integer.highestOneBit(Math.max(legalMoves.size(), 2) * 2 - 1) << 1;
+		this.keys = new int[capacity];
+		this.moves = new Move[capacity];
+		this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+		this.mask = capacity - 1;
+		for (final Move move : legalMoves) {
+			final int key = key(move);
+			int slot = slot(key);
+			while (this.keys[slot] != EMPTY_KEY) {
+				slot = (slot + 1) & this.mask;
+			}
+			this.keys[slot] = key;
+			this.moves[slot] = move;
+		}
+	}
+
+	public Move getMove(final int currentCoordinate, final int destinationCoordinate) {
+		return getMove(currentCoordinate, destinationCoordinate, null);
+	}
+
+	public Move getMove(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType) {
+		final int key = key(currentCoordinate, destinationCoordinate, promotionType);
+		int slot = slot(key);
+		while (this.keys[slot] != EMPTY_KEY) {
+			if (this.keys[slot] == key) {
+				return this.moves[slot];
+			}
+			slot = (slot + 1) & this.mask;
+		}
+		return null;
+	}
+
+	public boolean contains(final Move move) {
+		if (move == null || move.getMovedPiece() == null) {
+			return false;
+		}
+		final Move indexedMove = getMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType(move));
+		return indexedMove != null && indexedMove.equals(move);
+	}
+
+	private static PieceType promotionType(final Move move) {
+		return move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionType() : null;
+	}
+
+	private static int key(final Move move) {
+		return key(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType(move));
+	}
+
+	private static int key(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType) {
+		final int underpromotion = promotionType == null || promotionType == PieceType.QUEEN ? 0 : promotionType.ordinal();
+		return (underpromotion << 12 | currentCoordinate << 6 | destinationCoordinate) + 1;
+	}
+
+	private int slot(final int key) {
+		return (key * HASH_MULTIPLIER) >>> this.shift;
+	}
+}
@@ -0,0 +1,144 @@
+package chess.board;
+
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+
+public final class PieceSquareTables {
+
+	private static final int[] PAWN_TABLE = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		 50,  50,  50,  50,  50,  50,  50,  50,
+		 10,  10,  20,  30,  30,  20,  10,  10,
+		  5,   5,  10,  25,  25,  10,   5,   5,
+		  0,   0,   0,  20,  20,   0,   0,   0,
+		  5,  -5, -10,   0,   0, -10,  -5,   5,
+		  5,  10,  10, -20, -20,  10,  10,   5,
+		  0,   0,   0,   0,   0,   0,   0,   0
+	};
+
+	private static final int[] KNIGHT_TABLE = {
+		-50, -40, -30, -30, -30, -30, -40, -50,
+		-40, -20,   0,   0,   0,   0, -20, -40,
+		-30,   0,  10,  15,  15,  10,   0, -30,
+		-30,   5,  15,  20,  20,  15,   5, -30,
+		-30,   0,  15,  20,  20,  15,   0, -30,
+		-30,   5,  10,  15,  15,  10,   5, -30,
+		-40, -20,   0,   5,   5,   0, -20, -40,
+		-50, -40, -30, -30, -30, -30, -40, -50
+	};
+
+	private static final int[] BISHOP_TABLE = {
+		-20, -10, -10, -10, -10, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,  10,  10,   5,   0, -10,
+		-10,   5,   5,  10,  10,   5,   5, -10,
+		-10,   0,  10,  10,  10,  10,   0, -10,
+		-10,  10,  10,  10,  10,  10,  10, -10,
+		-10,   5,   0,   0,   0,   0,   5, -10,
+		-20, -10, -10, -10, -10, -10, -10, -20
+	};
+
+	private static final int[] ROOK_TABLE = {
+		  0,   0,   0,   0,   0,   0,   0,   0,
+		  5,  10,  10,  10,  10,  10,  10,   5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		 -5,   0,   0,   0,   0,   0,   0,  -5,
+		  0,   0,   0,   5,   5,   0,   0,   0
+	};
+
+	private static final int[] QUEEN_TABLE = {
+		-20, -10, -10,  -5,  -5, -10, -10, -20,
+		-10,   0,   0,   0,   0,   0,   0, -10,
+		-10,   0,   5,   5,   5,   5,   0, -10,
+		 -5,   0,   5,   5,   5,   5,   0,  -5,
+		  0,   0,   5,   5,   5,   5,   0,  -5,
+		-10,   5,   5,   5,   5,   5,   0, -10,
+		-10,   0,   5,   0,   0,   0,   0, -10,
+		-20, -10, -10,  -5,  -5, -10, -10, -20
+	};
+
+	private static final int[] KING_TABLE = {
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-30, -40, -40, -50, -50, -40, -40, -30,
+		-20, -30, -30, -40, -40, -30, -30, -20,
+		-10, -20, -20, -20, -20, -20, -20, -10,
+		 20,  20,   0,   0,   0,   0,  20,  20,
+		 20,  30,  10,   0,   0,  10,  30,  20
+	};
+
+	private static final int[][] TABLES = { PAWN_TABLE, KNIGHT_TABLE, BISHOP_TABLE, ROOK_TABLE, QUEEN_TABLE, KING_TABLE };
+
+	private static final int[] MATERIAL_VALUES = initMaterialValues();
+	private static final int[][] POSITIONAL_VALUES = initPositionalValues();
+
+	private PieceSquareTables() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static int materialValue(final int pieceIndex) {
+		return MATERIAL_VALUES[pieceIndex];
+	}
+
+	public static int materialValue(final Piece piece) {
+		return MATERIAL_VALUES[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())];
+	}
+
+	public static int positionalValue(final int pieceIndex, final int coordinate) {
+		return POSITIONAL_VALUES[pieceIndex][coordinate];
+	}
+
+	public static int positionalValue(final Piece piece) {
+		return POSITIONAL_VALUES[BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType())][piece.getPiecePosition()];
+	}
+
+	public static int calculateMaterialScore(final Piece[] boardPieces) {
+		int materialScore = 0;
+		for (final Piece piece : boardPieces) {
+			if (piece != null) {
+				materialScore += materialValue(piece);
+			}
+		}
+		return materialScore;
+	}
+
+	public static int calculatePositionalScore(final Piece[] boardPieces) {
+		int positionalScore = 0;
+		for (final Piece piece : boardPieces) {
+			if (piece != null) {
+				positionalScore += positionalValue(piece);
+			}
+		}
+		return positionalScore;
+	}
+
+	private static int[] initMaterialValues() {
+		final int[] materialValues = new int[BitBoards.NUM_PIECE_INDICES];
+		for (final PieceType pieceType : PieceType.values()) {
+			final int value = pieceType.isKing() ? 0 : pieceType.getPieceValue();
+			materialValues[pieceType.ordinal()] = value;
+			materialValues[BitBoards.NUM_PIECE_TYPES + pieceType.ordinal()] = -value;
+		}
+		return materialValues;
+	}
+
+	private static int[][] initPositionalValues() {
+		final int[][] positionalValues = new int[BitBoards.NUM_PIECE_INDICES][BoardUtils.NUM_TILES];
+		for (int pieceType = 0; pieceType < BitBoards.NUM_PIECE_TYPES; pieceType++) {
+			for (int coordinate = 0; coordinate < BoardUtils.NUM_TILES; coordinate++) {
+				final int value = toPieceValueUnits(TABLES[pieceType][coordinate]);
+				positionalValues[pieceType][coordinate] = value;
+				positionalValues[BitBoards.NUM_PIECE_TYPES + pieceType][coordinate ^ 56] = -value;
+			}
+		}
+		return positionalValues;
+	}
+
+	private static int toPieceValueUnits(final int centipawns) {
+		return (centipawns + (centipawns < 0 ? -5 : 5)) / 10;
+	}
+}
@@ -0,0 +1,453 @@
+package chess.board;
+
+import chess.pieces.Alliance;
+import chess.pieces.Piece.PieceType;
+
+public final class SearchBoard {
+
+	public static final int MAX_MOVES = 256;
+	public static final int MAX_PLY = 512;
+
+	private static final int EMPTY = -1;
+	private static final int WHITE = 0;
+	private static final int BLACK = 1;
+
+	private static final int PAWN = 0;
+	private static final int KNIGHT = 1;
+	private static final int BISHOP = 2;
+	private static final int ROOK = 3;
+	private static final int QUEEN = 4;
+	private static final int KING = 5;
+
+	private static final int[] CASTLING_MASKS = initCastlingMasks();
+	private static final PieceType[] UNDERPROMOTION_TYPES = { PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT };
+
+	private final int[] boardPieces;
+	private final long[] pieceBitboards;
+	private final long[] allianceOccupancy;
+	private int sideToMove;
+	private int castlingRights;
+	private int enPassantSquare;
+	private long zobristKey;
+	private int materialScore;
+	private int positionalScore;
+	private int ply;
+
+	private final int[] moveHistory;
+	private final int[] castlingHistory;
+	private final int[] enPassantHistory;
+	private final long[] keyHistory;
+	private final int[] scratchMoves;
+
+	public SearchBoard(final Board board) {
+		this.boardPieces = new int[BoardUtils.NUM_TILES];
+		this.pieceBitboards = new long[BitBoards.NUM_PIECE_INDICES];
+		this.allianceOccupancy = new long[2];
+		this.moveHistory = new int[MAX_PLY];
+		this.castlingHistory = new int[MAX_PLY];
+		this.enPassantHistory = new int[MAX_PLY];
+		this.keyHistory = new long[MAX_PLY];
+		this.scratchMoves = new int[MAX_MOVES];
+		for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+			this.boardPieces[i] = EMPTY;
+		}
+		for (int pieceIndex = 0; pieceIndex < BitBoards.NUM_PIECE_INDICES; pieceIndex++) {
+			long bitboard = board.getPieceBitboard(pieceIndex);
+			while (bitboard != 0) {
+				addPiece(pieceIndex, BitBoards.firstSquare(bitboard));
+				bitboard &= bitboard - 1;
+			}
+		}
+		this.sideToMove = board.getNextMoveMaker().ordinal();
+		this.castlingRights = board.getCastlingRights();
+		this.enPassantSquare = board.getEnPassantSquare();
+		this.zobristKey = board.getZobristKey();
+		this.ply = 0;
+	}
+
+	public SearchBoard(final SearchBoard other) {
+		this.boardPieces = other.boardPieces.clone();
+		this.pieceBitboards = other.pieceBitboards.clone();
+		this.allianceOccupancy = other.allianceOccupancy.clone();
+		this.moveHistory = other.moveHistory.clone();
+		this.castlingHistory = other.castlingHistory.clone();
+		this.enPassantHistory = other.enPassantHistory.clone();
+		this.keyHistory = other.keyHistory.clone();
+		this.scratchMoves = new int[MAX_MOVES];
+		this.sideToMove = other.sideToMove;
+		this.castlingRights = other.castlingRights;
+		this.enPassantSquare = other.enPassantSquare;
+		this.zobristKey = other.zobristKey;
+		this.materialScore = other.materialScore;
+		this.positionalScore = other.positionalScore;
+		this.ply = other.ply;
+	}
+
+	/**
+	 * Copies the current position without its move history. The copy can make at most maxPly moves
+	 * and cannot unmake the moves that were made on the original board.
+	 */
+	public SearchBoard(final SearchBoard other, final int maxPly) {
+		this.boardPieces = other.boardPieces.clone();
+		this.pieceBitboards = other.pieceBitboards.clone();
+		this.allianceOccupancy = other.allianceOccupancy.clone();
+		this.moveHistory = new int[maxPly];
+		this.castlingHistory = new int[maxPly];
+		this.enPassantHistory = new int[maxPly];
+		this.keyHistory = new long[maxPly];
+		this.scratchMoves = new int[MAX_MOVES];
+		this.sideToMove = other.sideToMove;
+		this.castlingRights = other.castlingRights;
+		this.enPassantSquare = other.enPassantSquare;
+		this.zobristKey = other.zobristKey;
+		this.materialScore = other.materialScore;
+		this.positionalScore = other.positionalScore;
+		this.ply = 0;
+	}
+
+	public Alliance getSideToMove() {
+		return this.sideToMove == WHITE ? Alliance.WHITE : Alliance.BLACK;
+	}
+
+	public long getZobristKey() {
+		return this.zobristKey;
+	}
+
+	public int getMaterialScore() {
+		return this.materialScore;
+	}
+
+	public int getPositionalScore() {
+		return this.positionalScore;
+	}
+
+	public int getPly() {
+		return this.ply;
+	}
+
+	public long getPieceBitboard(final Alliance alliance, final PieceType pieceType) {
+		return this.pieceBitboards[BitBoards.pieceIndex(alliance, pieceType)];
+	}
+
+	public int getPieceCount(final Alliance alliance, final PieceType pieceType) {
+		return BitBoards.count(getPieceBitboard(alliance, pieceType));
+	}
+
+	public boolean isInCheck() {
+		return isInCheck(this.sideToMove);
+	}
+
+	public boolean isInCheck(final Alliance alliance) {
+		return isInCheck(alliance.ordinal());
+	}
+
+	private boolean isInCheck(final int side) {
+		final long king = this.pieceBitboards[side * BitBoards.NUM_PIECE_TYPES + KING];
+		return king != 0 && isSquareAttacked(BitBoards.firstSquare(king), side ^ 1);
+	}
+
+	public boolean makeMove(final int move) {
+		final int from = CompactMove.getFrom(move);
+		final int to = CompactMove.getTo(move);
+		final int flag = CompactMove.getFlag(move);
+		final int movingSide = this.sideToMove;
+		final int movedPiece = CompactMove.getMovedPiece(move);
+
+		this.moveHistory[this.ply] = move;
+		this.castlingHistory[this.ply] = this.castlingRights;
+		this.enPassantHistory[this.ply] = this.enPassantSquare;
+		this.keyHistory[this.ply] = this.zobristKey;
+
+		this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.castlingKey(this.castlingRights);
+
+		final int capturedPiece = CompactMove.getCapturedPiece(move);
+		if (flag == CompactMove.EN_PASSANT) {
+			removePiece(capturedPiece, movingSide == WHITE ? to + BoardUtils.NUM_TILES_PER_ROW : to - BoardUtils.NUM_TILES_PER_ROW);
+		} else if (capturedPiece != CompactMove.NO_PIECE) {
+			removePiece(capturedPiece, to);
+		}
+
+		removePiece(movedPiece, from);
+		if (CompactMove.isPromotion(move)) {
+			addPiece(movingSide * BitBoards.NUM_PIECE_TYPES + CompactMove.getPromotionType(move).ordinal(), to);
+		} else {
+			addPiece(movedPiece, to);
+		}
+		if (flag == CompactMove.KING_CASTLE) {
+			movePiece(to + 1, to - 1);
+		} else if (flag == CompactMove.QUEEN_CASTLE) {
+			movePiece(to - 2, to + 1);
+		}
+
+		this.castlingRights &= CASTLING_MASKS[from] & CASTLING_MASKS[to];
+		this.enPassantSquare = flag == CompactMove.DOUBLE_PAWN_PUSH ? (from + to) / 2 : -1;
+		this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.castlingKey(this.castlingRights) ^
+				Zobrist.sideToMoveKey(Alliance.BLACK);
+		this.sideToMove ^= 1;
+		this.ply++;
+
+		if (isInCheck(movingSide)) {
+			unmakeMove();
+			return false;
+		}
+		return true;
+	}
+
+	public void unmakeMove() {
+		this.ply--;
+		this.sideToMove ^= 1;
+		final int move = this.moveHistory[this.ply];
+		final int from = CompactMove.getFrom(move);
+		final int to = CompactMove.getTo(move);
+		final int flag = CompactMove.getFlag(move);
+		final int movingSide = this.sideToMove;
+
+		if (flag == CompactMove.KING_CASTLE) {
+			movePiece(to - 1, to + 1);
+		} else if (flag == CompactMove.QUEEN_CASTLE) {
+			movePiece(to + 1, to - 2);
+		}
+		removePiece(this.boardPieces[to], to);
+		addPiece(CompactMove.getMovedPiece(move), from);
+
+		final int capturedPiece = CompactMove.getCapturedPiece(move);
+		if (flag == CompactMove.EN_PASSANT) {
+			addPiece(capturedPiece, movingSide == WHITE ? to + BoardUtils.NUM_TILES_PER_ROW : to - BoardUtils.NUM_TILES_PER_ROW);
+		} else if (capturedPiece != CompactMove.NO_PIECE) {
+			addPiece(capturedPiece, to);
+		}
+
+		this.castlingRights = this.castlingHistory[this.ply];
+		this.enPassantSquare = this.enPassantHistory[this.ply];
+		this.zobristKey = this.keyHistory[this.ply];
+	}
+
+	public void makeNullMove() {
+		this.moveHistory[this.ply] = CompactMove.NULL_MOVE;
+		this.castlingHistory[this.ply] = this.castlingRights;
+		this.enPassantHistory[this.ply] = this.enPassantSquare;
+		this.keyHistory[this.ply] = this.zobristKey;
+		this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare) ^ Zobrist.sideToMoveKey(Alliance.BLACK);
+		this.enPassantSquare = -1;
+		this.sideToMove ^= 1;
+		this.ply++;
+	}
+
+	public void unmakeNullMove() {
+		this.ply--;
+		this.sideToMove ^= 1;
+		this.enPassantSquare = this.enPassantHistory[this.ply];
+		this.zobristKey = this.keyHistory[this.ply];
+	}
+
+	public boolean hasNonPawnMaterial() {
+		final int pieceOffset = this.sideToMove * BitBoards.NUM_PIECE_TYPES;
+		return (this.pieceBitboards[pieceOffset + KNIGHT] | this.pieceBitboards[pieceOffset + BISHOP] |
+				this.pieceBitboards[pieceOffset + ROOK] | this.pieceBitboards[pieceOffset + QUEEN]) != 0;
+	}
+
+	public int generateMoves(final int[] moves) {
+		return generateMoves(this.sideToMove, moves, false);
+	}
+
+	public int generateCaptures(final int[] moves) {
+		return generateMoves(this.sideToMove, moves, true);
+	}
+
+	public int countLegalMoves(final Alliance alliance) {
+		final int side = alliance.ordinal();
+		final boolean otherSide = side != this.sideToMove;
+		if (otherSide) {
+			makeNullMove();
+		}
+		final int moveCount = generateMoves(side, this.scratchMoves, false);
+		int legalMoveCount = moveCount;
+		final long king = this.pieceBitboards[side * BitBoards.NUM_PIECE_TYPES + KING];
+		if (king != 0) {
+			final int kingSquare = BitBoards.firstSquare(king);
+			final long occupancy = this.allianceOccupancy[WHITE] | this.allianceOccupancy[BLACK];
+			final long unverifiedSquares = isInCheck(side) ? ~0L : MagicBitboards.queenAttacks(kingSquare, occupancy) | king;
+			for (int i = 0; i < moveCount; i++) {
+				final int move = this.scratchMoves[i];
+				if (BitBoards.isSet(unverifiedSquares, CompactMove.getFrom(move)) || CompactMove.getFlag(move) == CompactMove.EN_PASSANT) {
+					if (makeMove(move)) {
+						unmakeMove();
+					} else {
+						legalMoveCount--;
+					}
+				}
+			}
+		}
+		if (otherSide) {
+			unmakeNullMove();
+		}
+		return legalMoveCount;
+	}
+
+	private int generateMoves(final int side, final int[] moves, final boolean capturesOnly) {
+		final long own = this.allianceOccupancy[side];
+		final long opponent = this.allianceOccupancy[side ^ 1];
+		final long occupancy = own | opponent;
+		final long pieceTargets = capturesOnly ? opponent : ~own;
+		final int pieceOffset = side * BitBoards.NUM_PIECE_TYPES;
+		int count = 0;
+
+		final int pawn = pieceOffset + PAWN;
+		long pawns = this.pieceBitboards[pawn];
+		final int push = side == WHITE ? -BoardUtils.NUM_TILES_PER_ROW : BoardUtils.NUM_TILES_PER_ROW;
+		while (pawns != 0) {
+			final int from = BitBoards.firstSquare(pawns);
+			pawns &= pawns - 1;
+			final int oneStep = from + push;
+			if (!BitBoards.isSet(occupancy, oneStep)) {
+				if (isPromotionSquare(side, oneStep)) {
+					count = addPromotions(moves, count, from, oneStep, CompactMove.PROMOTION, pawn, CompactMove.NO_PIECE, capturesOnly);
+				} else if (!capturesOnly) {
+					moves[count++] = CompactMove.createMove(from, oneStep, CompactMove.QUIET, pawn, CompactMove.NO_PIECE);
+					final int twoSteps = oneStep + push;
+					if (isPawnStartSquare(side, from) && !BitBoards.isSet(occupancy, twoSteps)) {
+						moves[count++] = CompactMove.createMove(from, twoSteps, CompactMove.DOUBLE_PAWN_PUSH, pawn, CompactMove.NO_PIECE);
+					}
+				}
+			}
+			long captures = BoardUtils.PAWN_ATTACKS[side][from] & opponent;
+			while (captures != 0) {
+				final int to = BitBoards.firstSquare(captures);
+				captures &= captures - 1;
+				if (isPromotionSquare(side, to)) {
+					count = addPromotions(moves, count, from, to, CompactMove.PROMOTION_CAPTURE, pawn, this.boardPieces[to], capturesOnly);
+				} else {
+					moves[count++] = CompactMove.createMove(from, to, CompactMove.CAPTURE, pawn, this.boardPieces[to]);
+				}
+			}
+			if (side == this.sideToMove && this.enPassantSquare >= 0 && BitBoards.isSet(BoardUtils.PAWN_ATTACKS[side][from], this.enPassantSquare)) {
+				moves[count++] = CompactMove.createMove(from, this.enPassantSquare, CompactMove.EN_PASSANT, pawn,
+						(side ^ 1) * BitBoards.NUM_PIECE_TYPES + PAWN);
+			}
+		}
+
+		for (int pieceType = KNIGHT; pieceType <= KING; pieceType++) {
+			final int piece = pieceOffset + pieceType;
+			long pieces = this.pieceBitboards[piece];
+			while (pieces != 0) {
+				final int from = BitBoards.firstSquare(pieces);
+				pieces &= pieces - 1;
+				long targets = attacksFrom(pieceType, from, occupancy) & pieceTargets;
+				while (targets != 0) {
+					final int to = BitBoards.firstSquare(targets);
+					targets &= targets - 1;
+					final int capturedPiece = this.boardPieces[to];
+					moves[count++] = CompactMove.createMove(from, to, capturedPiece == EMPTY ? CompactMove.QUIET : CompactMove.CAPTURE, piece, capturedPiece);
+				}
+			}
+		}
+		return capturesOnly ? count : generateCastles(side, occupancy, moves, count);
+	}
+
+	private int generateCastles(final int side, final long occupancy, final int[] moves, int count) {
+		final int kingSide = side == WHITE ? Board.WHITE_KING_SIDE_CASTLE : Board.BLACK_KING_SIDE_CASTLE;
+		final int queenSide = side == WHITE ? Board.WHITE_QUEEN_SIDE_CASTLE : Board.BLACK_QUEEN_SIDE_CASTLE;
+		if ((this.castlingRights & (kingSide | queenSide)) == 0 || isInCheck(side)) {
+			return count;
+		}
+		final int kingSquare = side == WHITE ? 60 : 4;
+		final int king = side * BitBoards.NUM_PIECE_TYPES + KING;
+		if ((this.castlingRights & kingSide) != 0 &&
+			!BitBoards.isSet(occupancy, kingSquare + 1) && !BitBoards.isSet(occupancy, kingSquare + 2) &&
+			!isSquareAttacked(kingSquare + 1, side ^ 1) && !isSquareAttacked(kingSquare + 2, side ^ 1)) {
+			moves[count++] = CompactMove.createMove(kingSquare, kingSquare + 2, CompactMove.KING_CASTLE, king, CompactMove.NO_PIECE);
+		}
+		if ((this.castlingRights & queenSide) != 0 &&
+			!BitBoards.isSet(occupancy, kingSquare - 1) && !BitBoards.isSet(occupancy, kingSquare - 2) &&
+			!BitBoards.isSet(occupancy, kingSquare - 3) &&
+			!isSquareAttacked(kingSquare - 1, side ^ 1) && !isSquareAttacked(kingSquare - 2, side ^ 1)) {
+			moves[count++] = CompactMove.createMove(kingSquare, kingSquare - 2, CompactMove.QUEEN_CASTLE, king, CompactMove.NO_PIECE);
+		}
+		return count;
+	}
+
+	private boolean isSquareAttacked(final int square, final int bySide) {
+		final int pieceOffset = bySide * BitBoards.NUM_PIECE_TYPES;
+		final long occupancy = this.allianceOccupancy[WHITE] | this.allianceOccupancy[BLACK];
+		final long queens = this.pieceBitboards[pieceOffset + QUEEN];
+		return (BoardUtils.PAWN_ATTACKS[bySide ^ 1][square] & this.pieceBitboards[pieceOffset + PAWN]) != 0 ||
+				(BoardUtils.KNIGHT_ATTACKS[square] & this.pieceBitboards[pieceOffset + KNIGHT]) != 0 ||
+				(BoardUtils.KING_ATTACKS[square] & this.pieceBitboards[pieceOffset + KING]) != 0 ||
+				(MagicBitboards.bishopAttacks(square, occupancy) & (this.pieceBitboards[pieceOffset + BISHOP] | queens)) != 0 ||
+				(MagicBitboards.rookAttacks(square, occupancy) & (this.pieceBitboards[pieceOffset + ROOK] | queens)) != 0;
+	}
+
+	private static long attacksFrom(final int pieceType, final int square, final long occupancy) {
+		switch (pieceType) {
+		case KNIGHT:
+			return BoardUtils.KNIGHT_ATTACKS[square];
+		case BISHOP:
+			return MagicBitboards.bishopAttacks(square, occupancy);
+		case ROOK:
+			return MagicBitboards.rookAttacks(square, occupancy);
+		case QUEEN:
+			return MagicBitboards.queenAttacks(square, occupancy);
+		default:
+			return BoardUtils.KING_ATTACKS[square];
+		}
+	}
+
+	private void addPiece(final int pieceIndex, final int square) {
+		final long mask = BitBoards.squareMask(square);
+		this.boardPieces[square] = pieceIndex;
+		this.pieceBitboards[pieceIndex] |= mask;
+		this.allianceOccupancy[pieceIndex / BitBoards.NUM_PIECE_TYPES] |= mask;
+		this.zobristKey ^= Zobrist.pieceKey(pieceIndex, square);
+		this.materialScore += PieceSquareTables.materialValue(pieceIndex);
+		this.positionalScore += PieceSquareTables.positionalValue(pieceIndex, square);
+	}
+
+	private void removePiece(final int pieceIndex, final int square) {
+		final long mask = BitBoards.squareMask(square);
+		this.boardPieces[square] = EMPTY;
+		this.pieceBitboards[pieceIndex] &= ~mask;
+		this.allianceOccupancy[pieceIndex / BitBoards.NUM_PIECE_TYPES] &= ~mask;
+		this.zobristKey ^= Zobrist.pieceKey(pieceIndex, square);
+		this.materialScore -= PieceSquareTables.materialValue(pieceIndex);
+		this.positionalScore -= PieceSquareTables.positionalValue(pieceIndex, square);
+	}
+
+	private void movePiece(final int from, final int to) {
+		final int pieceIndex = this.boardPieces[from];
+		removePiece(pieceIndex, from);
+		addPiece(pieceIndex, to);
+	}
+
+	private static int addPromotions(final int[] moves, int count, final int from, final int to, final int flag, final int pawn,
+			final int capturedPiece, final boolean queenOnly) {
+		moves[count++] = CompactMove.createPromotion(from, to, flag, pawn, capturedPiece, PieceType.QUEEN);
+		if (!queenOnly) {
+			for (final PieceType promotionType : UNDERPROMOTION_TYPES) {
+				moves[count++] = CompactMove.createPromotion(from, to, flag, pawn, capturedPiece, promotionType);
+			}
+		}
+		return count;
+	}
+
+	private static boolean isPromotionSquare(final int side, final int square) {
+		return side == WHITE ? BoardUtils.EIGHTH_RANK[square] : BoardUtils.FIRST_RANK[square];
+	}
+
+	private static boolean isPawnStartSquare(final int side, final int square) {
+		return side == WHITE ? BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square];
+	}
+
+	private static int[] initCastlingMasks() {
+		final int[] castlingMasks = new int[BoardUtils.NUM_TILES];
+		for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+			castlingMasks[i] = ~0;
+		}
+		castlingMasks[60] &= ~(Board.WHITE_KING_SIDE_CASTLE | Board.WHITE_QUEEN_SIDE_CASTLE);
+		castlingMasks[63] &= ~Board.WHITE_KING_SIDE_CASTLE;
+		castlingMasks[56] &= ~Board.WHITE_QUEEN_SIDE_CASTLE;
+		castlingMasks[4] &= ~(Board.BLACK_KING_SIDE_CASTLE | Board.BLACK_QUEEN_SIDE_CASTLE);
+		castlingMasks[7] &= ~Board.BLACK_KING_SIDE_CASTLE;
+		castlingMasks[0] &= ~Board.BLACK_QUEEN_SIDE_CASTLE;
+		return castlingMasks;
+	}
+}
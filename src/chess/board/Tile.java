@@ -5,7 +5,10 @@ import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
 
+import chess.pieces.Alliance;
 import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+import chess.pieces.PieceFactory;
 
 public abstract class Tile {
 
@@ -23,8 +26,39 @@ public abstract class Tile {
 		return ImmutableMap.copyOf(emptyTileMap);
 	}
 
+	private static final OccupiedTile[] OCCUPIED_TILES_CACHE = createAllPossibleOccupiedTiles();
+
+	private static OccupiedTile[] createAllPossibleOccupiedTiles() {
+		final OccupiedTile[] occupiedTiles = new OccupiedTile[BitBoards.NUM_PIECE_INDICES * BoardUtils.NUM_TILES * 2];
+		for (final Alliance alliance : Alliance.values()) {
+			for (final PieceType pieceType : PieceType.values()) {
+				for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
+					for (final boolean isFirstMove : new boolean[] { false, true }) {
+						final Piece piece = PieceFactory.getPiece(pieceType, alliance, i, isFirstMove);
+						occupiedTiles[occupiedTileIndex(piece)] = new OccupiedTile(i, piece);
+					}
+				}
+			}
+		}
+		return occupiedTiles;
+	}
+
+	private static int occupiedTileIndex(final Piece piece) {
+		final int pieceIndex = BitBoards.pieceIndex(piece.getPieceAlliance(), piece.getPieceType());
+		return (pieceIndex * BoardUtils.NUM_TILES + piece.getPiecePosition()) * 2 + (piece.isFirstMove() ? 1 : 0);
+	}
+
 	public static Tile createTile(final int tileCoordinate, final Piece piece) {
-		return piece != null ? new OccupiedTile(tileCoordinate, piece) : EMPTY_TILES_CACHE.get(tileCoordinate);
+		if (piece == null) {
+			return EMPTY_TILES_CACHE.get(tileCoordinate);
+		}
+		if (piece.getPiecePosition() == tileCoordinate) {
+			final OccupiedTile occupiedTile = OCCUPIED_TILES_CACHE[occupiedTileIndex(piece)];
+			if (occupiedTile.pieceOnTile == piece) {
+				return occupiedTile;
+			}
+		}
+		return new OccupiedTile(tileCoordinate, piece);
 	}
 
 	private Tile(final int tileCoordinate) {
@@ -0,0 +1,75 @@
+package chess.board;
+
+import java.util.Random;
+
+import chess.pieces.Alliance;
+import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
+
+public final class Zobrist {
+
+	private static final long SEED = 0x5DEECE66DL;
+
+	private static final long[][] PIECE_KEYS = new long[BitBoards.NUM_PIECE_INDICES][BoardUtils.NUM_TILES];
+	private static final long[] CASTLING_KEYS = new long[16];
+	private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+	private static final long SIDE_TO_MOVE_KEY;
+
+	static {
+		final Random random = new Random(SEED);
+		for (int i = 0; i < BitBoards.NUM_PIECE_INDICES; i++) {
+			for (int j = 0; j < BoardUtils.NUM_TILES; j++) {
+				PIECE_KEYS[i][j] = random.nextLong();
+			}
+		}
+		for (int i = 0; i < CASTLING_KEYS.length; i++) {
+			CASTLING_KEYS[i] = random.nextLong();
+		}
+		for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+			EN_PASSANT_KEYS[i] = random.nextLong();
+		}
+		SIDE_TO_MOVE_KEY = random.nextLong();
+	}
+
+	private Zobrist() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static long pieceKey(final int pieceIndex, final int coordinate) {
+		return PIECE_KEYS[pieceIndex][coordinate];
+	}
+
+	public static long pieceKey(final Alliance alliance, final PieceType pieceType, final int coordinate) {
+		return PIECE_KEYS[BitBoards.pieceIndex(alliance, pieceType)][coordinate];
+	}
+
+	public static long pieceKey(final Piece piece) {
+		return pieceKey(piece.getPieceAlliance(), piece.getPieceType(), piece.getPiecePosition());
+	}
+
+	public static long castlingKey(final int castlingRights) {
+		return CASTLING_KEYS[castlingRights];
+	}
+
+	public static long enPassantKey(final int enPassantSquare) {
+		return enPassantSquare < 0 ? 0L : EN_PASSANT_KEYS[enPassantSquare % BoardUtils.NUM_TILES_PER_ROW];
+	}
+
+	public static long sideToMoveKey(final Alliance alliance) {
+		return alliance.isBlack() ? SIDE_TO_MOVE_KEY : 0L;
+	}
+
+	public static long calculatePieceKey(final Piece[] boardPieces) {
+		long pieceKey = 0L;
+		for (final Piece piece : boardPieces) {
+			if (piece != null) {
+				pieceKey ^= pieceKey(piece);
+			}
+		}
+		return pieceKey;
+	}
+
+	public static long calculateKey(final long pieceKey, final Alliance sideToMove, final int castlingRights, final int enPassantSquare) {
+		return pieceKey ^ sideToMoveKey(sideToMove) ^ castlingKey(castlingRights) ^ enPassantKey(enPassantSquare);
+	}
+}
@@ -63,12 +63,12 @@ public class GameHistoryPanel extends JPanel {
 	}
 
 	private String calculateCheckAndCheckMateHash(final Board board) {
-		if (board.currentPlayer().isInCheck()) {
-			return "+";
-		}
-		else if (board.currentPlayer().isInCheckMate()) {
+		if (board.currentPlayer().isInCheckMate()) {
 			return "#";
 		}
+		else if (board.currentPlayer().isInCheck()) {
+			return "+";
+		}
 		else {
 			return "";
 		}
@@ -19,6 +19,7 @@ import javax.swing.SpinnerNumberModel;
 import chess.gui.Table.PlayerType;
 import chess.pieces.Alliance;
 import chess.player.Player;
+import chess.player.ai.AlphaBeta;
 
 @SuppressWarnings("serial")
 class GameSetup extends JDialog {
@@ -26,6 +27,8 @@ class GameSetup extends JDialog {
 	private PlayerType whitePlayerType;
 	private PlayerType blackPlayerType;
 	private static JSpinner searchDepthSpinner;
+	private static JSpinner searchTimeSpinner;
+	private static JSpinner searchThreadsSpinner;
 
 	GameSetup(final JFrame frame, final boolean model) {
 		super(frame, model);
@@ -53,8 +56,12 @@ class GameSetup extends JDialog {
 		myPanel.add(blackHumanButton);
 		myPanel.add(blackComputerButton);
 
-		searchDepthSpinner = addLabeledSpinner(myPanel, "Difficulty (1 - 5)",
-				new SpinnerNumberModel(3, 1, 5, 1));
+		searchDepthSpinner = addLabeledSpinner(myPanel, "Maximum search depth",
+				new SpinnerNumberModel(AlphaBeta.MAX_SEARCH_PLY - 1, 1, AlphaBeta.MAX_SEARCH_PLY - 1, 1));
+		searchTimeSpinner = addLabeledSpinner(myPanel, "Time per move (ms)",
+				new SpinnerNumberModel(3000, 100, 60000, 100));
+		searchThreadsSpinner = addLabeledSpinner(myPanel, "Search threads",
+				new SpinnerNumberModel(Runtime.getRuntime().availableProcessors(), 1, 256, 1));
 
 		final JButton cancelButton = new JButton("Cancel");
 		final JButton okButton = new JButton("OK");
@@ -114,4 +121,12 @@ class GameSetup extends JDialog {
 	static int getSearchDepth() {
 		return (Integer) searchDepthSpinner.getValue();
 	}
+
+	static int getSearchTime() {
+		return (Integer) searchTimeSpinner.getValue();
+	}
+
+	static int getSearchThreads() {
+		return (Integer) searchThreadsSpinner.getValue();
+	}
 }
\ No newline at end of file
@@ -40,9 +40,10 @@ import chess.board.BoardUtils;
 import chess.board.Move;
 import chess.board.Tile;
 import chess.pieces.Piece;
+import chess.player.GameStatus;
 import chess.player.MoveTransition;
-import chess.player.ai.MiniMax;
-//import chess.player.ai.MoveStrategy;
+import chess.player.ai.LazySMP;
+import chess.player.ai.MoveStrategy;
 
 public class Table extends Observable {
 	
@@ -58,6 +59,7 @@ public class Table extends Observable {
 	private Piece humanMovedPiece;
 	private BoardDirection boardDirection;
 	private Move computerMove;
+	private LazySMP searchEngine;
 	
 	private boolean highlightLegalMoves;
 	
@@ -102,6 +104,7 @@ public class Table extends Observable {
 	public void show() {
 		SwingUtilities.invokeLater(new Runnable() {
 			public void run() {
+				Table.get().releaseSearchEngine();
 				Table.get().getMoveLog().clear();
 				Table.get().getGameHistoryPanel().redo(chessBoard, Table.get().getMoveLog());
 				Table.get().getTakenPiecesPanel().redo(Table.get().getMoveLog());
@@ -110,6 +113,21 @@ public class Table extends Observable {
 		});
 	}
 	
+	private LazySMP getSearchEngine() {
+		final int searchDepth = GameSetup.getSearchDepth();
+		final int searchTime = GameSetup.getSearchTime();
+		final int searchThreads = GameSetup.getSearchThreads();
+		if (this.searchEngine == null || this.searchEngine.getSearchDepth() != searchDepth ||
+				this.searchEngine.getTimeBudgetMillis() != searchTime || this.searchEngine.getThreadCount() != searchThreads) {
+			this.searchEngine = new LazySMP(searchDepth, searchTime, searchThreads);
+		}
+		return this.searchEngine;
+	}
+	
+	private void releaseSearchEngine() {
+		this.searchEngine = null;
+	}
+	
 	private GameSetup getGameSetup() {
 		return this.gameSetup;
 	}
@@ -224,16 +242,16 @@ public class Table extends Observable {
 
 		@Override
 		public void update(final Observable o, final Object arg) {
+			final GameStatus gameStatus = Table.get().getGameBoard().getGameStatus();
 			if (Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().currentPlayer()) && 
-				!Table.get().getGameBoard().currentPlayer().isInCheckMate() && 
-				!Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
-				final AIThinkTank thinkTank = new AIThinkTank();
+				!gameStatus.isGameOver()) {
+				final AIThinkTank thinkTank = new AIThinkTank(Table.get().getSearchEngine());
 				thinkTank.execute();
 			}
-			if (Table.get().getGameBoard().currentPlayer().isInCheckMate()) {
+			if (gameStatus == GameStatus.CHECKMATE) {
 				System.out.println("Game Over: " + Table.get().getGameBoard().currentPlayer() + " is in checkmate");
 			}
-			if (Table.get().getGameBoard().currentPlayer().isInStaleMate()) {
+			if (gameStatus == GameStatus.STALEMATE) {
 				System.out.println("Game Over: " + Table.get().getGameBoard().currentPlayer() + " is in stalemate");
 			}
 		}
@@ -241,13 +259,15 @@ public class Table extends Observable {
 	
 	private static class AIThinkTank extends SwingWorker<Move, String> {
 		
-		private AIThinkTank() {
+		private final MoveStrategy moveStrategy;
+		
+		private AIThinkTank(final MoveStrategy moveStrategy) {
+			this.moveStrategy = moveStrategy;
 		}
 		
 		@Override
 		protected Move doInBackground() throws Exception {
-			final MiniMax miniMax  = new MiniMax(GameSetup.getSearchDepth());
-			final Move bestMove = miniMax.execute(Table.get().getGameBoard());
+			final Move bestMove = this.moveStrategy.execute(Table.get().getGameBoard());
 			return bestMove;
 		}
 		
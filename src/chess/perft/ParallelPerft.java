@@ -0,0 +1,142 @@
+package chess.perft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import chess.board.Board;
+import chess.board.CompactMove;
+import chess.board.FenUtilities;
+import chess.board.MagicBitboards;
+import chess.board.Move;
+import chess.player.MoveTransition;
+
+public final class ParallelPerft {
+
+	private static final int SEQUENTIAL_DEPTH = 2;
+
+	private final ForkJoinPool pool;
+	private final PerftCache cache;
+
+	public ParallelPerft(final int parallelism, final int cacheSizeInMegabytes) {
+		this.pool = new ForkJoinPool(parallelism);
+		this.cache = cacheSizeInMegabytes > 0 ? new PerftCache(cacheSizeInMegabytes) : null;
+	}
+
+	public long perft(final Board board, final int depth) {
+		return this.pool.invoke(new PerftTask(board, depth));
+	}
+
+	public SortedMap<String, Long> divide(final Board board, final int depth) {
+		final List<PerftTask> tasks = new ArrayList<>();
+		final List<String> moveNames = new ArrayList<>();
+		for (final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.currentPlayer().makeMove(move);
+			if (transition.getMoveStatus().isDone()) {
+				tasks.add(new PerftTask(transition.getTransitionBoard(), depth - 1));
+				moveNames.add(CompactMove.toString(CompactMove.fromMove(move)));
+			}
+		}
+		for (final PerftTask task : tasks) {
+			this.pool.execute(task);
+		}
+		final SortedMap<String, Long> divide = new TreeMap<>();
+		for (int i = 0; i < tasks.size(); i++) {
+			divide.put(moveNames.get(i), tasks.get(i).join());
+		}
+		return divide;
+	}
+
+	public void shutdown() {
+		this.pool.shutdown();
+	}
+
+	private final class PerftTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Board board;
+		private final int depth;
+
+		PerftTask(final Board board, final int depth) {
+			this.board = board;
+			this.depth = depth;
+		}
+
+		@Override
+		protected Long compute() {
+			if (this.depth <= 1) {
+				return Perft.perft(this.board, this.depth);
+			}
+			final long key = this.board.getZobristKey();
+			if (ParallelPerft.this.cache != null) {
+				final long cachedNodes = ParallelPerft.this.cache.probe(key, this.depth);
+				if (cachedNodes != PerftCache.MISS) {
+					return cachedNodes;
+				}
+			}
+			long nodes = 0;
+			if (this.depth <= SEQUENTIAL_DEPTH) {
+				nodes = Perft.perft(this.board, this.depth);
+			} else {
+				final List<PerftTask> subtasks = new ArrayList<>();
+				for (final Move move : this.board.currentPlayer().getLegalMoves()) {
+					final MoveTransition transition = this.board.currentPlayer().makeMove(move);
+					if (transition.getMoveStatus().isDone()) {
+						subtasks.add(new PerftTask(transition.getTransitionBoard(), this.depth - 1));
+					}
+				}
+				for (final PerftTask subtask : invokeAll(subtasks)) {
+					nodes += subtask.join();
+				}
+			}
+			if (ParallelPerft.this.cache != null) {
+				ParallelPerft.this.cache.store(key, this.depth, nodes);
+			}
+			return nodes;
+		}
+	}
+
+	public static void main(final String[] args) {
+		int depth = 6;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int hashSize = 0;
+		boolean divide = false;
+		String fen = Perft.STARTING_POSITION;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-divide")) {
+				divide = true;
+			} else if (args[i].equals("-threads") && i + 1 < args.length) {
+				threads = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-hash") && i + 1 < args.length) {
+				hashSize = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-fen") && i + 1 < args.length) {
+				fen = args[++i];
+			} else {
+				depth = Integer.parseInt(args[i]);
+			}
+		}
+		final Board board = FenUtilities.createBoardFromFen(fen);
+		final ParallelPerft parallelPerft = new ParallelPerft(threads, hashSize);
+		System.out.println(board);
+		System.out.println("Threads: " + threads + ", hash: " + hashSize + " MB");
+		System.out.println("Magic bitboard tables: " + MagicBitboards.getTableMemoryBytes() / 1024 + " KB, initialized in " +
+				MagicBitboards.getInitializationNanos() / 1000 + " microseconds");
+		final long startTime = System.nanoTime();
+		long nodes = 0;
+		if (divide && depth > 0) {
+			for (final Map.Entry<String, Long> entry : parallelPerft.divide(board, depth).entrySet()) {
+				System.out.println(entry.getKey() + ": " + entry.getValue());
+				nodes += entry.getValue();
+			}
+		} else {
+			nodes = parallelPerft.perft(board, depth);
+		}
+		Perft.report(depth, nodes, System.nanoTime() - startTime);
+		parallelPerft.shutdown();
+	}
+}
@@ -0,0 +1,94 @@
+package chess.perft;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import chess.board.Board;
+import chess.board.CompactMove;
+import chess.board.FenUtilities;
+import chess.board.MagicBitboards;
+import chess.board.Move;
+import chess.player.MoveTransition;
+
+public final class Perft {
+
+	public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+	private Perft() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static long perft(final Board board, final int depth) {
+		return perft(board, depth, true);
+	}
+
+	public static long perft(final Board board, final int depth, final boolean bulkCounting) {
+		if (depth == 0) {
+			return 1;
+		}
+		if (bulkCounting && depth == 1) {
+			return board.currentPlayer().getLegalMoves().size();
+		}
+		long nodes = 0;
+		for (final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.currentPlayer().makeMove(move);
+			if (transition.getMoveStatus().isDone()) {
+				nodes += perft(transition.getTransitionBoard(), depth - 1, bulkCounting);
+			}
+		}
+		return nodes;
+	}
+
+	public static SortedMap<String, Long> divide(final Board board, final int depth, final boolean bulkCounting) {
+		final SortedMap<String, Long> divide = new TreeMap<>();
+		for (final Move move : board.currentPlayer().getLegalMoves()) {
+			final MoveTransition transition = board.currentPlayer().makeMove(move);
+			if (transition.getMoveStatus().isDone()) {
+				divide.put(CompactMove.toString(CompactMove.fromMove(move)),
+						perft(transition.getTransitionBoard(), depth - 1, bulkCounting));
+			}
+		}
+		return divide;
+	}
+
+	public static void main(final String[] args) {
+		int depth = 5;
+		boolean divide = false;
+		boolean bulkCounting = true;
+		String fen = STARTING_POSITION;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-divide")) {
+				divide = true;
+			} else if (args[i].equals("-nobulk")) {
+				bulkCounting = false;
+			} else if (args[i].equals("-fen") && i + 1 < args.length) {
+				fen = args[++i];
+			} else {
+				depth = Integer.parseInt(args[i]);
+			}
+		}
+		final Board board = FenUtilities.createBoardFromFen(fen);
+		System.out.println(board);
+		System.out.println("Magic bitboard tables: " + MagicBitboards.getTableMemoryBytes() / 1024 + " KB, initialized in " +
+				MagicBitboards.getInitializationNanos() / 1000 + " microseconds");
+		final long startTime = System.nanoTime();
+		long nodes = 0;
+		if (divide && depth > 0) {
+			for (final Map.Entry<String, Long> entry : divide(board, depth, bulkCounting).entrySet()) {
+				System.out.println(entry.getKey() + ": " + entry.getValue());
+				nodes += entry.getValue();
+			}
+		} else {
+			nodes = perft(board, depth, bulkCounting);
+		}
+		report(depth, nodes, System.nanoTime() - startTime);
+	}
+
+	static void report(final int depth, final long nodes, final long elapsedNanos) {
+		final long elapsedMillis = elapsedNanos / 1000000;
+		final long nodesPerSecond = elapsedNanos > 0 ? nodes * 1000000000L / elapsedNanos : 0;
+		System.out.println("Depth " + depth + ": " + nodes + " nodes in " + elapsedMillis + " milliseconds (" +
+				nodesPerSecond + " nodes/sec)");
+	}
+}
@@ -0,0 +1,38 @@
+package chess.perft;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class PerftCache {
+
+	static final long MISS = -1L;
+
+	private static final int BYTES_PER_ENTRY = 16;
+	private static final int DEPTH_BITS = 8;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+	private final AtomicLongArray entries;
+	private final int indexMask;
+
+	PerftCache(final int sizeInMegabytes) {
+		final long requestedEntries = Math.max(1L, ((long) sizeInMegabytes << 20) / BYTES_PER_ENTRY);
+		final int entryCount = (int) Math.min(Long.highestOneBit(requestedEntries), 1 << 28);
+		this.entries = new AtomicLongArray(entryCount * 2);
+		this.indexMask = entryCount - 1;
+	}
+
+	long probe(final long key, final int depth) {
+		final int index = ((int) key & this.indexMask) << 1;
+		final long data = this.entries.get(index + 1);
+		if ((this.entries.get(index) ^ data) == key && (data & DEPTH_MASK) == depth) {
+			return data >>> DEPTH_BITS;
+		}
+		return MISS;
+	}
+
+	void store(final long key, final int depth, final long nodes) {
+		final int index = ((int) key & this.indexMask) << 1;
+		final long data = nodes << DEPTH_BITS | depth;
+		this.entries.set(index, key ^ data);
+		this.entries.set(index + 1, data);
+	}
+}
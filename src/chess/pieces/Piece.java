@@ -4,6 +4,7 @@ import java.util.Collection;
 
 import chess.board.Board;
 import chess.board.Move;
+import chess.board.MoveGenerator;
 import chess.pieces.Alliance;
 
 public abstract class Piece {
@@ -14,7 +15,7 @@ public abstract class Piece {
 	protected final PieceType pieceType;
 	private final int cachedHashCode;
 	
-	Piece (final int piecePosition, final Alliance pieceAlliance, final PieceType pieceType, final Boolean isFirstMove) {
+	Piece (final int piecePosition, final Alliance pieceAlliance, final PieceType pieceType, final boolean isFirstMove) {
 		this.pieceType = pieceType;
 		this.piecePosition = piecePosition;
 		this.pieceAlliance = pieceAlliance;
@@ -32,14 +33,7 @@ public abstract class Piece {
 
 	@Override
 	public boolean equals(final Object other) {
-		if (this == other) {
-			return true;
-		} else if (!(other instanceof Piece)) {
-			return false;
-		}
-		final Piece otherPiece = (Piece) other;
-		return piecePosition == otherPiece.getPiecePosition() && pieceType == otherPiece.getPieceType() && 
-				pieceAlliance == otherPiece.getPieceAlliance() && isFirstMove == otherPiece.isFirstMove();
+		return this == other;
 	}
 	
 	@Override
@@ -67,8 +61,11 @@ public abstract class Piece {
 		return this.pieceType.getPieceValue();
 	}
 	
+	public final Collection<Move> calculateLegalMoves(final Board board) {
+		return MoveGenerator.calculateLegalMoves(board, this);
+	}
+	
 	public abstract Piece movePiece(Move move);
-	public abstract Collection<Move> calculateLegalMoves(final Board board);
 	
 	public enum PieceType {
 		
@@ -0,0 +1,58 @@
+package chess.pieces;
+
+import chess.board.BitBoards;
+import chess.board.BoardUtils;
+import chess.pieces.Piece.PieceType;
+
+public final class PieceFactory {
+
+	private static final Piece[] PIECES = initPieces();
+
+	private PieceFactory() {
+		throw new RuntimeException("Not instantiable");
+	}
+
+	public static Piece getPiece(final PieceType pieceType, final Alliance alliance, final int piecePosition) {
+		return getPiece(pieceType, alliance, piecePosition, true);
+	}
+
+	public static Piece getPiece(final PieceType pieceType, final Alliance alliance, final int piecePosition, final boolean isFirstMove) {
+		return PIECES[index(BitBoards.pieceIndex(alliance, pieceType), piecePosition, isFirstMove)];
+	}
+
+	private static int index(final int pieceIndex, final int piecePosition, final boolean isFirstMove) {
+		return (pieceIndex * BoardUtils.NUM_TILES + piecePosition) * 2 + (isFirstMove ? 1 : 0);
+	}
+
+	private static Piece[] initPieces() {
+		final Piece[] pieces = new Piece[BitBoards.NUM_PIECE_INDICES * BoardUtils.NUM_TILES * 2];
+		for (final Alliance alliance : Alliance.values()) {
+			for (final PieceType pieceType : PieceType.values()) {
+				for (int position = 0; position < BoardUtils.NUM_TILES; position++) {
+					for (final boolean isFirstMove : new boolean[] { false, true }) {
+						pieces[index(BitBoards.pieceIndex(alliance, pieceType), position, isFirstMove)] =
+								createPiece(pieceType, alliance, position, isFirstMove);
+					}
+				}
+			}
+		}
+		return pieces;
+	}
+
+	private static Piece createPiece(final PieceType pieceType, final Alliance alliance, final int position, final boolean isFirstMove) {
+		switch (pieceType) {
+		case PAWN:
+			return new Pawn(alliance, position, isFirstMove);
+		case KNIGHT:
+			return new Knight(alliance, position, isFirstMove);
+		case BISHOP:
+			return new Bishop(alliance, position, isFirstMove);
+		case ROOK:
+			return new Rook(alliance, position, isFirstMove);
+		case QUEEN:
+			return new Queen(alliance, position, isFirstMove);
+		default:
+			return new King(alliance, position, isFirstMove);
+		}
+	}
+}
@@ -8,49 +8,45 @@ import com.google.common.collect.ImmutableList;
 
 import chess.board.Board;
 import chess.board.Move;
-import chess.board.Tile;
 import chess.pieces.Alliance;
 import chess.pieces.Piece;
 import chess.pieces.Rook;
 
 public class BlackPlayer extends Player{
 
-	public BlackPlayer(final Board board, 
-			final Collection<Move> whiteStandardLegalMoves,
-			final Collection<Move> blackStandardLegalMoves) {
-		super(board, blackStandardLegalMoves, whiteStandardLegalMoves);
+	public BlackPlayer(final Board board) {
+		super(board);
 	}
 
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentLegals) {
+	protected Collection<Move> calculateKingCastles() {
 		
 		final List<Move> kingCastles = new ArrayList<>();
-		if (this.playerKing.isFirstMove() && this.playerKing.getPiecePosition() == 4 && !this.isInCheck()) {
+		if (!this.isInCheck()) {
 			
-			if (!this.board.getTile(5).isTileOccupied() && !this.board.getTile(6).isTileOccupied()) {
-				final Tile rookTile = this.board.getTile(7);
-				if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-					if (Player.calculateAttacksOnTile(5, opponentLegals).isEmpty() && 
-						Player.calculateAttacksOnTile(6, opponentLegals).isEmpty() &&
-						rookTile.getPiece().getPieceType().isRook()) {
-							kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 6, (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 5));
-					}
+			if (this.board.hasCastlingRight(Board.BLACK_KING_SIDE_CASTLE) && 
+				!this.board.isTileOccupied(5) && !this.board.isTileOccupied(6)) {
+				if (!this.board.isSquareAttacked(5, getOpponent().getAlliance()) && 
+					!this.board.isSquareAttacked(6, getOpponent().getAlliance())) {
+						kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 6, (Rook) this.board.getPiece(7), 7, 5));
 				}
 			}
-			if (!this.board.getTile(1).isTileOccupied() && !this.board.getTile(2).isTileOccupied() && !this.board.getTile(3).isTileOccupied()) {
-				final Tile rookTile = this.board.getTile(0);
-				if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-					if (Player.calculateAttacksOnTile(2, opponentLegals).isEmpty() &&
-						Player.calculateAttacksOnTile(3, opponentLegals).isEmpty() &&
-						rookTile.getPiece().getPieceType().isRook()) {
-							kingCastles.add(new Move.QueenSideCastleMove(this.board, this.playerKing, 2, (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 3));
-					}
+			if (this.board.hasCastlingRight(Board.BLACK_QUEEN_SIDE_CASTLE) && 
+				!this.board.isTileOccupied(1) && !this.board.isTileOccupied(2) && !this.board.isTileOccupied(3)) {
+				if (!this.board.isSquareAttacked(2, getOpponent().getAlliance()) &&
+					!this.board.isSquareAttacked(3, getOpponent().getAlliance())) {
+						kingCastles.add(new Move.QueenSideCastleMove(this.board, this.playerKing, 2, (Rook) this.board.getPiece(0), 0, 3));
 				}
 			}
 		}
 		return ImmutableList.copyOf(kingCastles);
 	}
 	
+	@Override
+	protected boolean hasCastlingRights() {
+		return this.board.hasCastlingRight(Board.BLACK_KING_SIDE_CASTLE | Board.BLACK_QUEEN_SIDE_CASTLE);
+	}
+	
 	@Override
 	public Collection<Piece> getActivePieces() {
 		return this.board.getBlackPieces();
@@ -0,0 +1,20 @@
+package chess.player;
+
+public enum GameStatus {
+	IN_PROGRESS {
+		public boolean isGameOver() {
+			return false;
+		}
+	},
+	CHECKMATE {
+		public boolean isGameOver() {
+			return true;
+		}
+	},
+	STALEMATE {
+		public boolean isGameOver() {
+			return true;
+		}
+	};
+	public abstract boolean isGameOver();
+}
\ No newline at end of file
@@ -1,90 +1,108 @@
 package chess.player;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
+import chess.board.BitBoards;
 import chess.board.Board;
 import chess.board.Move;
+import chess.board.MoveGenerator;
+import chess.board.MoveIndex;
 import chess.pieces.Alliance;
 import chess.pieces.King;
 import chess.pieces.Piece;
+import chess.pieces.Piece.PieceType;
 
 public abstract class Player {
 
 	protected final Board board;
 	protected final King playerKing;
-	protected final Collection<Move> legalMoves;
-	private final boolean isInCheck;
+	private Collection<Move> legalMoves;
+	private MoveIndex legalMoveIndex;
+	private int checkStatus;
+	private GameStatus gameStatus;
 
-	Player(final Board board, final Collection<Move> legalMoves, final Collection<Move> opponentMoves) {
+	private static final int CHECK_UNKNOWN = 0;
+	private static final int NOT_IN_CHECK = 1;
+	private static final int IN_CHECK = 2;
+
+	Player(final Board board) {
 		this.board = board;
 		this.playerKing = establishKing();
-		this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-		this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
-	}
-
-	protected static Collection<Move> calculateAttacksOnTile(int piecePosition, Collection<Move> moves) {
-		final List<Move> attackMoves = new ArrayList<>();
-		for (final Move move : moves) {
-			if (piecePosition == move.getDestinationCoordinate()) {
-				attackMoves.add(move);
-			}
-		}
-		return ImmutableList.copyOf(attackMoves);
+		this.checkStatus = CHECK_UNKNOWN;
 	}
 
 	protected King establishKing() {
-		for (final Piece piece : getActivePieces()) {
-			if (piece.getPieceType().isKing()) {
-				return (King) piece;
-			}
+		final long kingBitboard = this.board.getPieceBitboard(getAlliance(), PieceType.KING);
+		if (kingBitboard != 0) {
+			return (King) this.board.getPiece(BitBoards.firstSquare(kingBitboard));
 		}
 		throw new RuntimeException("Should not reach here, not a valid board");
 	}
 
 	public MoveTransition makeMove(final Move move) {
 		if (!isMoveLegal(move)) {
-			return new MoveTransition(this.board, move, MoveStatus.ILLEGAL_MOVE);
+			final boolean isPseudoLegal = this.board.getStandardLegalMoves(getAlliance()).contains(move);
+			return new MoveTransition(this.board, move, isPseudoLegal ? MoveStatus.LEAVES_PLAYER_IN_CHECK : MoveStatus.ILLEGAL_MOVE);
 		}
-		final Board transitionBoard = move.execute();
-
-		final Collection<Move> kingAttacks = Player.calculateAttacksOnTile(
-				transitionBoard.currentPlayer().getOpponent().getPlayerKing().getPiecePosition(),
-				transitionBoard.currentPlayer().getLegalMoves());
-		if (!kingAttacks.isEmpty()) {
-			return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
-		}
-		return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+		return new MoveTransition(move.execute(), move, MoveStatus.DONE);
 	}
 
 	protected boolean hasEscapeMoves() {
-		for (final Move move : this.legalMoves) {
-			final MoveTransition transition = makeMove(move);
-			if (transition.getMoveStatus().isDone()) {
-				return true;
-			}
-		}
-		return false;
+		return !getLegalMoves().isEmpty();
 	}
 
 	public boolean isMoveLegal(final Move move) {
-		return this.legalMoves.contains(move);
+		return getLegalMoveIndex().contains(move);
+	}
+
+	public Move getLegalMove(final int currentCoordinate, final int destinationCoordinate) {
+		return getLegalMoveIndex().getMove(currentCoordinate, destinationCoordinate);
+	}
+
+	public Move getLegalMove(final int currentCoordinate, final int destinationCoordinate, final PieceType promotionType) {
+		return getLegalMoveIndex().getMove(currentCoordinate, destinationCoordinate, promotionType);
+	}
+
+	private MoveIndex getLegalMoveIndex() {
+		MoveIndex legalMoveIndex = this.legalMoveIndex;
+		if (legalMoveIndex == null) {
+			legalMoveIndex = new MoveIndex(getLegalMoves());
+			this.legalMoveIndex = legalMoveIndex;
+		}
+		return legalMoveIndex;
 	}
 
 	public boolean isInCheck() {
-		return this.isInCheck;
+		int checkStatus = this.checkStatus;
+		if (checkStatus == CHECK_UNKNOWN) {
+			checkStatus = this.board.isSquareAttacked(this.playerKing.getPiecePosition(), getOpponent().getAlliance()) ? IN_CHECK : NOT_IN_CHECK;
+			this.checkStatus = checkStatus;
+		}
+		return checkStatus == IN_CHECK;
 	}
 
 	public boolean isInCheckMate() {
-		return this.isInCheck && !hasEscapeMoves();
+		return getGameStatus() == GameStatus.CHECKMATE;
 	}
 
 	public boolean isInStaleMate() {
-		return !this.isInCheck() && !hasEscapeMoves();
+		return getGameStatus() == GameStatus.STALEMATE;
+	}
+
+	public GameStatus getGameStatus() {
+		GameStatus gameStatus = this.gameStatus;
+		if (gameStatus == null) {
+			if (hasEscapeMoves()) {
+				gameStatus = GameStatus.IN_PROGRESS;
+			} else {
+				gameStatus = isInCheck() ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+			}
+			this.gameStatus = gameStatus;
+		}
+		return gameStatus;
 	}
 
 	public King getPlayerKing() {
@@ -92,7 +110,17 @@ public abstract class Player {
 	}
 
 	public Collection<Move> getLegalMoves() {
-		return this.legalMoves;
+		Collection<Move> legalMoves = this.legalMoves;
+		if (legalMoves == null) {
+			final Collection<Move> fullyLegalMoves = MoveGenerator.calculateFullyLegalMoves(this.board, getAlliance(), getActivePieces());
+			if (hasCastlingRights()) {
+				legalMoves = ImmutableList.copyOf(Iterables.concat(fullyLegalMoves, calculateKingCastles()));
+			} else {
+				legalMoves = fullyLegalMoves;
+			}
+			this.legalMoves = legalMoves;
+		}
+		return legalMoves;
 	}
 
 	public abstract Collection<Piece> getActivePieces();
@@ -101,6 +129,7 @@ public abstract class Player {
 
 	public abstract Player getOpponent();
 
-	protected abstract Collection<Move> calculateKingCastles(Collection<Move> playerLegals,
-			Collection<Move> opponentLegals);
+	protected abstract boolean hasCastlingRights();
+
+	protected abstract Collection<Move> calculateKingCastles();
 }
\ No newline at end of file
@@ -8,43 +8,34 @@ import com.google.common.collect.ImmutableList;
 
 import chess.board.Board;
 import chess.board.Move;
-import chess.board.Tile;
 import chess.pieces.Alliance;
 import chess.pieces.Piece;
 import chess.pieces.Rook;
 
 public class WhitePlayer extends Player {
 
-	public WhitePlayer(final Board board, 
-			final Collection<Move> whiteStandardLegalMoves,
-			final Collection<Move> blackStandardLegalMoves) {
-		super(board, whiteStandardLegalMoves, blackStandardLegalMoves);
+	public WhitePlayer(final Board board) {
+		super(board);
 	}
 
 	@Override
-	protected Collection<Move> calculateKingCastles(final Collection<Move> playerLegals, final Collection<Move> opponentLegals) {
+	protected Collection<Move> calculateKingCastles() {
 		
 		final List<Move> kingCastles = new ArrayList<>();
-		if (this.playerKing.isFirstMove() && this.playerKing.getPiecePosition() == 60 && !this.isInCheck()) {
+		if (!this.isInCheck()) {
 			
-			if (!this.board.getTile(61).isTileOccupied() && !this.board.getTile(62).isTileOccupied()) {
-				final Tile rookTile = this.board.getTile(63);
-				if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-					if (Player.calculateAttacksOnTile(61, opponentLegals).isEmpty() && 
-						Player.calculateAttacksOnTile(62, opponentLegals).isEmpty() &&
-						rookTile.getPiece().getPieceType().isRook()) {
-							kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 62, (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 61));
-					}
+			if (this.board.hasCastlingRight(Board.WHITE_KING_SIDE_CASTLE) && 
+				!this.board.isTileOccupied(61) && !this.board.isTileOccupied(62)) {
+				if (!this.board.isSquareAttacked(61, getOpponent().getAlliance()) && 
+					!this.board.isSquareAttacked(62, getOpponent().getAlliance())) {
+						kingCastles.add(new Move.KingSideCastleMove(this.board, this.playerKing, 62, (Rook) this.board.getPiece(63), 63, 61));
 				}
 			}
-			if (!this.board.getTile(59).isTileOccupied() && !this.board.getTile(58).isTileOccupied() && !this.board.getTile(57).isTileOccupied()) {
-				final Tile rookTile = this.board.getTile(56);
-				if (rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()) {
-					if (Player.calculateAttacksOnTile(58, opponentLegals).isEmpty() &&
-						Player.calculateAttacksOnTile(59, opponentLegals).isEmpty() &&
-						rookTile.getPiece().getPieceType().isRook()) {
-							kingCastles.add(new Move.QueenSideCastleMove(this.board, this.playerKing, 58, (Rook) rookTile.getPiece(), rookTile.getTileCoordinate(), 59));
-					}
+			if (this.board.hasCastlingRight(Board.WHITE_QUEEN_SIDE_CASTLE) && 
+				!this.board.isTileOccupied(59) && !this.board.isTileOccupied(58) && !this.board.isTileOccupied(57)) {
+				if (!this.board.isSquareAttacked(58, getOpponent().getAlliance()) &&
+					!this.board.isSquareAttacked(59, getOpponent().getAlliance())) {
+						kingCastles.add(new Move.QueenSideCastleMove(this.board, this.playerKing, 58, (Rook) this.board.getPiece(56), 56, 59));
 				}
 			}
 		}
@@ -56,6 +47,11 @@ public class WhitePlayer extends Player {
 		return Alliance.WHITE.toString();
 	}
 	
+	@Override
+	protected boolean hasCastlingRights() {
+		return this.board.hasCastlingRight(Board.WHITE_KING_SIDE_CASTLE | Board.WHITE_QUEEN_SIDE_CASTLE);
+	}
+	
 	@Override
 	public Collection<Piece> getActivePieces() {
 		return this.board.getWhitePieces();
@@ -0,0 +1,617 @@
+package chess.player.ai;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+import chess.board.Board;
+import chess.board.CompactMove;
+import chess.board.Move;
+import chess.board.PieceSquareTables;
+import chess.board.SearchBoard;
+import chess.pieces.Piece.PieceType;
+
+public class AlphaBeta implements MoveStrategy {
+
+	public static final int MATE_SCORE = 1000000;
+	public static final int MAX_SEARCH_PLY = 128;
+	public static final int MAX_QUIESCENCE_PLY = 16;
+
+	public static final long NO_TIME_LIMIT = 0;
+	public static final int DEFAULT_TABLE_SIZE_MB = 16;
+
+	static final int INFINITY = MATE_SCORE + 1;
+	private static final int MATE_BOUND = MATE_SCORE - MAX_SEARCH_PLY;
+	private static final int TIME_CHECK_INTERVAL = 2048;
+	private static final int DELTA_MARGIN = 20;
+	private static final int PROMOTION_GAIN = PieceType.QUEEN.getPieceValue() - PieceType.PAWN.getPieceValue();
+	private static final int NULL_MOVE_MIN_DEPTH = 3;
+	private static final int LMR_MIN_DEPTH = 3;
+	private static final int LMR_MIN_MOVE_NUMBER = 3;
+	private static final int[] FUTILITY_MARGINS = { 0, 20, 50 };
+	private static final int[] RAZOR_MARGINS = { 0, 30, 50 };
+	private static final int ASPIRATION_MIN_DEPTH = 4;
+	private static final int ASPIRATION_WINDOW = 10;
+	private static final int[] HELPER_SKIP_SIZES = { 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4 };
+	private static final int[] HELPER_SKIP_PHASES = { 0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7 };
+
+	private final BoardEvaluator boardEvaluator;
+	private final TranspositionTable transpositionTable;
+	private final boolean ownsTranspositionTable;
+	private final MoveOrdering moveOrdering;
+	private final int searchDepth;
+	private final long timeBudgetMillis;
+	private final int[][] moveBuffers;
+	private final int[] rootMoves;
+	private final int[] rootScores;
+	private final int[][] pvTable;
+	private final int[] pvLength;
+	private final int[] principalVariation;
+	private int principalVariationLength;
+	private long nodesSearched;
+	private long quiescenceNodes;
+	private long deadline;
+	private boolean stopped;
+	private volatile boolean stopRequested;
+	private BooleanSupplier abortCheck;
+	private int completedDepth;
+	private int helperIndex;
+	private boolean nullMovePruning;
+	private boolean lateMoveReductions;
+	private boolean futilityPruning;
+	private boolean razoring;
+	private long nullMoveCutoffs;
+	private long reducedSearches;
+	private long reSearches;
+	private long futilityPrunes;
+	private long razorCutoffs;
+	private long pvsReSearches;
+	private long aspirationReSearches;
+
+	public AlphaBeta(final int searchDepth) {
+		this(searchDepth, NO_TIME_LIMIT);
+	}
+
+	public AlphaBeta(final int searchDepth, final long timeBudgetMillis) {
+		this(searchDepth, timeBudgetMillis, new TranspositionTable(DEFAULT_TABLE_SIZE_MB), true);
+	}
+
+	public AlphaBeta(final int searchDepth, final long timeBudgetMillis, final TranspositionTable transpositionTable) {
+		this(searchDepth, timeBudgetMillis, transpositionTable, false);
+	}
+
+	private AlphaBeta(final int searchDepth, final long timeBudgetMillis, final TranspositionTable transpositionTable,
+			final boolean ownsTranspositionTable) {
+		this.boardEvaluator = new BoardEvaluator();
+		this.transpositionTable = transpositionTable;
+		this.ownsTranspositionTable = ownsTranspositionTable;
+		this.moveOrdering = new MoveOrdering(MAX_SEARCH_PLY);
+		this.searchDepth = Math.min(searchDepth, MAX_SEARCH_PLY - 1);
+		this.timeBudgetMillis = timeBudgetMillis;
+		this.moveBuffers = new int[MAX_SEARCH_PLY][SearchBoard.MAX_MOVES];
+		this.rootMoves = new int[SearchBoard.MAX_MOVES];
+		this.rootScores = new int[SearchBoard.MAX_MOVES];
+		this.pvTable = new int[MAX_SEARCH_PLY + 1][MAX_SEARCH_PLY + 1];
+		this.pvLength = new int[MAX_SEARCH_PLY + 1];
+		this.principalVariation = new int[MAX_SEARCH_PLY];
+		this.nullMovePruning = true;
+		this.lateMoveReductions = true;
+		this.futilityPruning = true;
+		this.razoring = true;
+	}
+
+	@Override
+	public Move execute(final Board board) {
+		this.stopRequested = false;
+		if (this.ownsTranspositionTable) {
+			this.transpositionTable.newSearch();
+		}
+		return search(board);
+	}
+
+	Move search(final Board board) {
+		final long startTime = System.currentTimeMillis();
+		final SearchBoard searchBoard = new SearchBoard(board);
+		final int rootMoveCount = generateRootMoves(searchBoard);
+		this.nodesSearched = 0;
+		this.quiescenceNodes = 0;
+		this.nullMoveCutoffs = 0;
+		this.reducedSearches = 0;
+		this.reSearches = 0;
+		this.futilityPrunes = 0;
+		this.razorCutoffs = 0;
+		this.pvsReSearches = 0;
+		this.aspirationReSearches = 0;
+		this.principalVariationLength = 0;
+		this.completedDepth = 0;
+		this.stopped = false;
+		this.deadline = this.timeBudgetMillis > 0 ? System.nanoTime() + this.timeBudgetMillis * 1000000L : Long.MAX_VALUE;
+		this.moveOrdering.newSearch();
+		final boolean isMainSearch = this.helperIndex == 0;
+		if (isMainSearch) {
+			System.out.println(board.currentPlayer() + " THINKING with depth: " + this.searchDepth +
+					(this.timeBudgetMillis > 0 ? ", time budget: " + this.timeBudgetMillis + " milliseconds" : ""));
+		}
+
+		int bestMove = CompactMove.NULL_MOVE;
+		int score = 0;
+		for (int depth = 1; depth <= this.searchDepth && rootMoveCount > 0; depth++) {
+			if (!isMainSearch) {
+				if (isSkippedByHelper(depth)) {
+					continue;
+				}
+				rotateLateRootMoves(rootMoveCount, this.helperIndex + depth);
+			}
+			score = searchAspirationWindow(searchBoard, rootMoveCount, depth, score);
+			if (this.stopped) {
+				break;
+			}
+			bestMove = this.rootMoves[0];
+			this.completedDepth = depth;
+			this.principalVariationLength = this.pvLength[0];
+			System.arraycopy(this.pvTable[0], 0, this.principalVariation, 0, this.principalVariationLength);
+			this.transpositionTable.store(searchBoard.getZobristKey(), bestMove, toTableScore(score, 0), depth, TranspositionTable.EXACT);
+			if (isMainSearch) {
+				System.out.println("Depth " + depth + ": " + CompactMove.toString(bestMove) + " score " + score + ", " +
+						this.nodesSearched + " nodes, " + (System.currentTimeMillis() - startTime) + " milliseconds, pv " +
+						principalVariationToString());
+			}
+		}
+		if (isMainSearch) {
+			reportSearch(startTime);
+		}
+		if (bestMove == CompactMove.NULL_MOVE) {
+			return null;
+		}
+		return CompactMove.toMove(board, bestMove);
+	}
+
+	private void reportSearch(final long startTime) {
+		final long executionTime = System.currentTimeMillis() - startTime;
+		System.out.println("Took " + executionTime + " milliseconds to decide, searched " + this.nodesSearched + " nodes (" +
+				this.quiescenceNodes + " quiescence)");
+		System.out.println(String.format("Transposition table hit rate %.1f%%, fill rate %.1f%%, first move cutoff rate %.1f%%",
+				this.transpositionTable.getHitRate() * 100, this.transpositionTable.getFillRate() * 100,
+				this.moveOrdering.getFirstMoveCutoffRate() * 100));
+		System.out.println("Null move cutoffs " + this.nullMoveCutoffs + ", reduced searches " + this.reducedSearches +
+				" (" + this.reSearches + " re-searched), futility prunes " + this.futilityPrunes + ", razor cutoffs " + this.razorCutoffs);
+		System.out.println("PVS re-searches " + this.pvsReSearches + ", aspiration re-searches " + this.aspirationReSearches);
+	}
+
+	private String principalVariationToString() {
+		final StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < this.principalVariationLength; i++) {
+			builder.append(i == 0 ? "" : " ").append(CompactMove.toString(this.principalVariation[i]));
+		}
+		return builder.toString();
+	}
+
+	public void stop() {
+		this.stopRequested = true;
+	}
+
+	public void setNullMovePruning(final boolean nullMovePruning) {
+		this.nullMovePruning = nullMovePruning;
+	}
+
+	public void setLateMoveReductions(final boolean lateMoveReductions) {
+		this.lateMoveReductions = lateMoveReductions;
+	}
+
+	public void setFutilityPruning(final boolean futilityPruning) {
+		this.futilityPruning = futilityPruning;
+	}
+
+	public void setRazoring(final boolean razoring) {
+		this.razoring = razoring;
+	}
+
+	public long getNullMoveCutoffs() {
+		return this.nullMoveCutoffs;
+	}
+
+	public long getReducedSearches() {
+		return this.reducedSearches;
+	}
+
+	public long getReSearches() {
+		return this.reSearches;
+	}
+
+	public long getFutilityPrunes() {
+		return this.futilityPrunes;
+	}
+
+	public long getRazorCutoffs() {
+		return this.razorCutoffs;
+	}
+
+	public long getPvsReSearches() {
+		return this.pvsReSearches;
+	}
+
+	public long getAspirationReSearches() {
+		return this.aspirationReSearches;
+	}
+
+	public int[] getPrincipalVariation() {
+		return Arrays.copyOf(this.principalVariation, this.principalVariationLength);
+	}
+
+	public long getNodesSearched() {
+		return this.nodesSearched;
+	}
+
+	public long getQuiescenceNodes() {
+		return this.quiescenceNodes;
+	}
+
+	public int getCompletedDepth() {
+		return this.completedDepth;
+	}
+
+	public TranspositionTable getTranspositionTable() {
+		return this.transpositionTable;
+	}
+
+	public MoveOrdering getMoveOrdering() {
+		return this.moveOrdering;
+	}
+
+	void setHelperIndex(final int helperIndex) {
+		this.helperIndex = helperIndex;
+	}
+
+	int searchSubtree(final SearchBoard board, final int depth, final int alpha, final int beta, final int ply,
+			final BooleanSupplier abortCheck) {
+		this.stopped = false;
+		this.deadline = Long.MAX_VALUE;
+		this.abortCheck = abortCheck;
+		final int score = alphaBeta(board, depth, alpha, beta, ply, true);
+		this.abortCheck = null;
+		return score;
+	}
+
+	private int generateRootMoves(final SearchBoard board) {
+		final int[] moves = this.moveBuffers[0];
+		final int moveCount = board.generateMoves(moves);
+		int rootMoveCount = 0;
+		for (int i = 0; i < moveCount; i++) {
+			if (board.makeMove(moves[i])) {
+				board.unmakeMove();
+				this.rootMoves[rootMoveCount++] = moves[i];
+			}
+		}
+		return rootMoveCount;
+	}
+
+	private int searchAspirationWindow(final SearchBoard board, final int rootMoveCount, final int depth, final int previousScore) {
+		if (depth < ASPIRATION_MIN_DEPTH || Math.abs(previousScore) >= MATE_BOUND) {
+			return searchRoot(board, rootMoveCount, depth, -INFINITY, INFINITY);
+		}
+		int window = ASPIRATION_WINDOW;
+		int alpha = Math.max(previousScore - window, -INFINITY);
+		int beta = Math.min(previousScore + window, INFINITY);
+		while (true) {
+			final int score = searchRoot(board, rootMoveCount, depth, alpha, beta);
+			if (this.stopped || (score > alpha && score < beta)) {
+				return score;
+			}
+			this.aspirationReSearches++;
+			window *= 2;
+			if (score <= alpha) {
+				alpha = Math.max(score - window, -INFINITY);
+			} else {
+				beta = Math.min(score + window, INFINITY);
+			}
+		}
+	}
+
+	private int searchRoot(final SearchBoard board, final int rootMoveCount, final int depth, int alpha, final int beta) {
+		int bestScore = -INFINITY;
+		this.pvLength[0] = 0;
+		for (int i = 0; i < rootMoveCount; i++) {
+			this.rootScores[i] = -INFINITY;
+		}
+		for (int i = 0; i < rootMoveCount; i++) {
+			final int move = this.rootMoves[i];
+			board.makeMove(move);
+			int score;
+			if (i == 0) {
+				score = -alphaBeta(board, depth - 1, -beta, -alpha, 1, true);
+			} else {
+				score = -alphaBeta(board, depth - 1, -alpha - 1, -alpha, 1, true);
+				if (score > alpha && score < beta && !this.stopped) {
+					this.pvsReSearches++;
+					score = -alphaBeta(board, depth - 1, -beta, -alpha, 1, true);
+				}
+			}
+			board.unmakeMove();
+			if (this.stopped) {
+				return bestScore;
+			}
+			this.rootScores[i] = score;
+			if (score > bestScore) {
+				bestScore = score;
+				if (score > alpha) {
+					alpha = score;
+					updatePrincipalVariation(0, move);
+					if (alpha >= beta) {
+						break;
+					}
+				}
+			}
+		}
+		sortRootMoves(rootMoveCount);
+		return bestScore;
+	}
+
+	private void updatePrincipalVariation(final int ply, final int move) {
+		final int childLength = Math.max(this.pvLength[ply + 1], ply + 1);
+		this.pvTable[ply][ply] = move;
+		System.arraycopy(this.pvTable[ply + 1], ply + 1, this.pvTable[ply], ply + 1, childLength - (ply + 1));
+		this.pvLength[ply] = childLength;
+	}
+
+	private boolean isSkippedByHelper(final int depth) {
+		final int pattern = (this.helperIndex - 1) % HELPER_SKIP_SIZES.length;
+		return ((depth + HELPER_SKIP_PHASES[pattern]) / HELPER_SKIP_SIZES[pattern]) % 2 != 0;
+	}
+
+	private void rotateLateRootMoves(final int rootMoveCount, final int distance) {
+		final int lateMoveCount = rootMoveCount - 1;
+		if (lateMoveCount < 2) {
+			return;
+		}
+		final int shift = distance % lateMoveCount;
+		reverseRootMoves(1, 1 + shift);
+		reverseRootMoves(1 + shift, rootMoveCount);
+		reverseRootMoves(1, rootMoveCount);
+	}
+
+	private void reverseRootMoves(int from, int to) {
+		while (from < --to) {
+			final int move = this.rootMoves[from];
+			this.rootMoves[from++] = this.rootMoves[to];
+			this.rootMoves[to] = move;
+		}
+	}
+
+	private void sortRootMoves(final int rootMoveCount) {
+		for (int i = 1; i < rootMoveCount; i++) {
+			final int move = this.rootMoves[i];
+			final int score = this.rootScores[i];
+			int j = i - 1;
+			while (j >= 0 && this.rootScores[j] < score) {
+				this.rootMoves[j + 1] = this.rootMoves[j];
+				this.rootScores[j + 1] = this.rootScores[j];
+				j--;
+			}
+			this.rootMoves[j + 1] = move;
+			this.rootScores[j + 1] = score;
+		}
+	}
+
+	private void checkTime() {
+		if (this.stopRequested || (this.abortCheck != null && this.abortCheck.getAsBoolean()) ||
+				(this.completedDepth > 0 && System.nanoTime() > this.deadline)) {
+			this.stopped = true;
+		}
+	}
+
+	private int alphaBeta(final SearchBoard board, final int depth, int alpha, final int beta, final int ply,
+			final boolean allowNullMove) {
+		this.pvLength[ply] = ply;
+		if (depth <= 0) {
+			return quiescence(board, alpha, beta, ply, 0);
+		}
+		if ((++this.nodesSearched & (TIME_CHECK_INTERVAL - 1)) == 0) {
+			checkTime();
+		}
+		if (this.stopped) {
+			return 0;
+		}
+		if (ply >= MAX_SEARCH_PLY) {
+			return evaluate(board, depth);
+		}
+		final boolean pvNode = beta - alpha > 1;
+		final long key = board.getZobristKey();
+		final long entry = this.transpositionTable.probe(key);
+		int hashMove = CompactMove.NULL_MOVE;
+		if (entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.getMove(entry);
+			if (!pvNode && isTableCutoff(entry, depth, alpha, beta, ply)) {
+				return fromTableScore(TranspositionTable.getScore(entry), ply);
+			}
+		}
+		final boolean inCheck = board.isInCheck();
+		final int staticEval = inCheck ? -INFINITY : evaluate(board, depth);
+		if (this.razoring && !pvNode && !inCheck && depth < RAZOR_MARGINS.length && staticEval + RAZOR_MARGINS[depth] <= alpha) {
+			final int score = quiescence(board, alpha, beta, ply, 0);
+			if (score <= alpha) {
+				this.razorCutoffs++;
+				return score;
+			}
+		}
+		if (this.nullMovePruning && allowNullMove && !pvNode && !inCheck && depth >= NULL_MOVE_MIN_DEPTH && staticEval >= beta &&
+				board.hasNonPawnMaterial()) {
+			final int reduction = depth > 6 ? 3 : 2;
+			board.makeNullMove();
+			final int score = -alphaBeta(board, depth - 1 - reduction, -beta, -beta + 1, ply + 1, false);
+			board.unmakeNullMove();
+			if (this.stopped) {
+				return 0;
+			}
+			if (score >= beta) {
+				this.nullMoveCutoffs++;
+				return score >= MATE_BOUND ? beta : score;
+			}
+		}
+		final boolean futile = this.futilityPruning && !pvNode && !inCheck && depth < FUTILITY_MARGINS.length &&
+				staticEval + FUTILITY_MARGINS[depth] <= alpha;
+		final int[] moves = this.moveBuffers[ply];
+		final int moveCount = board.generateMoves(moves);
+		this.moveOrdering.scoreMoves(moves, moveCount, hashMove, ply);
+		final int originalAlpha = alpha;
+		int bestScore = -INFINITY;
+		int bestMove = CompactMove.NULL_MOVE;
+		int legalMoveCount = 0;
+		for (int i = 0; i < moveCount; i++) {
+			final int move = this.moveOrdering.selectNext(moves, moveCount, i, ply);
+			if (!board.makeMove(move)) {
+				continue;
+			}
+			final int moveNumber = legalMoveCount++;
+			final boolean isQuiet = moveNumber > 0 && !inCheck && !MoveOrdering.isTactical(move) && !board.isInCheck();
+			if (futile && isQuiet) {
+				board.unmakeMove();
+				this.futilityPrunes++;
+				continue;
+			}
+			int score;
+			if (moveNumber == 0) {
+				score = -alphaBeta(board, depth - 1, -beta, -alpha, ply + 1, true);
+			} else {
+				int reduction = 0;
+				if (this.lateMoveReductions && isQuiet && depth >= LMR_MIN_DEPTH && moveNumber >= LMR_MIN_MOVE_NUMBER) {
+					reduction = moveNumber >= 2 * LMR_MIN_MOVE_NUMBER && depth > LMR_MIN_DEPTH ? 2 : 1;
+					this.reducedSearches++;
+				}
+				score = -alphaBeta(board, depth - 1 - reduction, -alpha - 1, -alpha, ply + 1, true);
+				if (score > alpha && reduction > 0 && !this.stopped) {
+					this.reSearches++;
+					score = -alphaBeta(board, depth - 1, -alpha - 1, -alpha, ply + 1, true);
+				}
+				if (score > alpha && score < beta && !this.stopped) {
+					this.pvsReSearches++;
+					score = -alphaBeta(board, depth - 1, -beta, -alpha, ply + 1, true);
+				}
+			}
+			board.unmakeMove();
+			if (this.stopped) {
+				return 0;
+			}
+			if (score > bestScore) {
+				bestScore = score;
+				bestMove = move;
+				if (score > alpha) {
+					alpha = score;
+					updatePrincipalVariation(ply, move);
+					if (alpha >= beta) {
+						this.moveOrdering.recordCutoff(move, depth, ply, moveNumber);
+						break;
+					}
+				}
+			}
+		}
+		if (legalMoveCount == 0) {
+			return inCheck ? -MATE_SCORE + ply : 0;
+		}
+		this.transpositionTable.store(key, bestMove, toTableScore(bestScore, ply), depth, boundType(bestScore, originalAlpha, beta));
+		return bestScore;
+	}
+
+	private int quiescence(final SearchBoard board, int alpha, final int beta, final int ply, final int quiescencePly) {
+		if ((++this.nodesSearched & (TIME_CHECK_INTERVAL - 1)) == 0) {
+			checkTime();
+		}
+		this.quiescenceNodes++;
+		this.pvLength[ply] = ply;
+		if (this.stopped) {
+			return 0;
+		}
+		if (quiescencePly >= MAX_QUIESCENCE_PLY || ply >= MAX_SEARCH_PLY) {
+			return evaluate(board, 0);
+		}
+		final boolean inCheck = board.isInCheck();
+		final int standPat = inCheck ? -INFINITY : evaluate(board, 0);
+		if (standPat >= beta) {
+			return standPat;
+		}
+		if (standPat > alpha) {
+			alpha = standPat;
+		}
+		final int[] moves = this.moveBuffers[ply];
+		final int moveCount = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+		this.moveOrdering.scoreMoves(moves, moveCount, CompactMove.NULL_MOVE, ply);
+		int bestScore = standPat;
+		boolean hasLegalMove = false;
+		for (int i = 0; i < moveCount; i++) {
+			final int move = this.moveOrdering.selectNext(moves, moveCount, i, ply);
+			if (!inCheck && standPat + captureGain(move) + DELTA_MARGIN <= alpha) {
+				continue;
+			}
+			if (!board.makeMove(move)) {
+				continue;
+			}
+			hasLegalMove = true;
+			final int score = -quiescence(board, -beta, -alpha, ply + 1, quiescencePly + 1);
+			board.unmakeMove();
+			if (this.stopped) {
+				return 0;
+			}
+			if (score > bestScore) {
+				bestScore = score;
+				if (score > alpha) {
+					alpha = score;
+					updatePrincipalVariation(ply, move);
+					if (alpha >= beta) {
+						break;
+					}
+				}
+			}
+		}
+		if (inCheck && !hasLegalMove) {
+			return -MATE_SCORE + ply;
+		}
+		return bestScore;
+	}
+
+	private static int captureGain(final int move) {
+		final int capturedPiece = CompactMove.getCapturedPiece(move);
+		final int capturedValue = capturedPiece == CompactMove.NO_PIECE ? 0 : Math.abs(PieceSquareTables.materialValue(capturedPiece));
+		return CompactMove.isPromotion(move) ? capturedValue + PROMOTION_GAIN : capturedValue;
+	}
+
+	static boolean isTableCutoff(final long entry, final int depth, final int alpha, final int beta, final int ply) {
+		if (TranspositionTable.getDepth(entry) < depth) {
+			return false;
+		}
+		final int tableScore = fromTableScore(TranspositionTable.getScore(entry), ply);
+		final int bound = TranspositionTable.getBound(entry);
+		return bound == TranspositionTable.EXACT ||
+				(bound == TranspositionTable.LOWER_BOUND && tableScore >= beta) ||
+				(bound == TranspositionTable.UPPER_BOUND && tableScore <= alpha);
+	}
+
+	static int boundType(final int bestScore, final int originalAlpha, final int beta) {
+		if (bestScore >= beta) {
+			return TranspositionTable.LOWER_BOUND;
+		}
+		return bestScore > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+	}
+
+	static int toTableScore(final int score, final int ply) {
+		if (score >= MATE_BOUND) {
+			return score + ply;
+		}
+		if (score <= -MATE_BOUND) {
+			return score - ply;
+		}
+		return score;
+	}
+
+	static int fromTableScore(final int score, final int ply) {
+		if (score >= MATE_BOUND) {
+			return score - ply;
+		}
+		if (score <= -MATE_BOUND) {
+			return score + ply;
+		}
+		return score;
+	}
+
+	private int evaluate(final SearchBoard board, final int depth) {
+		final int score = this.boardEvaluator.evaluate(board, depth);
+		return board.getSideToMove().isWhite() ? score : -score;
+	}
+}
@@ -1,7 +1,8 @@
 package chess.player.ai;
 
 import chess.board.Board;
-import chess.pieces.Piece;
+import chess.board.SearchBoard;
+import chess.pieces.Alliance;
 import chess.player.Player;
 
 public final class BoardEvaluator {
@@ -10,27 +11,30 @@ public final class BoardEvaluator {
 
 	//@Override
 	public int evaluate(final Board board, final int depth) {
-		return ScorePlayer(board, board.whitePlayer(), depth) - 
-				ScorePlayer(board, board.blackPlayer(), depth);
+		return board.getMaterialScore() + board.getPositionalScore() + 
+				mobility(board.whitePlayer()) - mobility(board.blackPlayer()) + check(board.currentPlayer());
 	}
 
-	private int ScorePlayer(final Board board, final Player player, final int depth) {
-		return pieceValue(player) + mobility(player) + check(player);
+	public int evaluate(final SearchBoard board, final int depth) {
+		return board.getMaterialScore() + board.getPositionalScore() + 
+				board.countLegalMoves(Alliance.WHITE) - board.countLegalMoves(Alliance.BLACK) + check(board);
 	}
 
 	private static int mobility(final Player player) {
-		return (int) player.getLegalMoves().size();
+		return player.getLegalMoves().size();
 	}
-	
-	private static int check(final Player player) {
-		return player.getOpponent().isInCheck() ? CHECK_BONUS : 0;
+
+	private static int check(final Player sideToMove) {
+		if (!sideToMove.isInCheck()) {
+			return 0;
+		}
+		return sideToMove.getAlliance().isWhite() ? -CHECK_BONUS : CHECK_BONUS;
 	}
 
-	private static int pieceValue(final Player player) {
-		int pieceValueScore = 0;
-		for (final Piece piece : player.getActivePieces()) {
-			pieceValueScore += piece.getPieceValue();
+	private static int check(final SearchBoard board) {
+		if (!board.isInCheck()) {
+			return 0;
 		}
-		return pieceValueScore;
+		return board.getSideToMove().isWhite() ? -CHECK_BONUS : CHECK_BONUS;
 	}
-}
\ No newline at end of file
+}
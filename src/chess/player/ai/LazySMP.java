@@ -0,0 +1,120 @@
+package chess.player.ai;
+
+import chess.board.Board;
+import chess.board.FenUtilities;
+import chess.board.Move;
+
+public class LazySMP implements MoveStrategy {
+
+	private final int searchDepth;
+	private final long timeBudgetMillis;
+	private final int threadCount;
+	private final TranspositionTable transpositionTable;
+	private long nodesSearched;
+	private int completedDepth;
+
+	public LazySMP(final int searchDepth, final long timeBudgetMillis, final int threadCount) {
+		this(searchDepth, timeBudgetMillis, threadCount, new TranspositionTable(AlphaBeta.DEFAULT_TABLE_SIZE_MB));
+	}
+
+	public LazySMP(final int searchDepth, final long timeBudgetMillis, final int threadCount,
+			final TranspositionTable transpositionTable) {
+		this.searchDepth = searchDepth;
+		this.timeBudgetMillis = timeBudgetMillis;
+		this.threadCount = Math.max(1, threadCount);
+		this.transpositionTable = transpositionTable;
+	}
+
+	@Override
+	public Move execute(final Board board) {
+		this.transpositionTable.newSearch();
+		final AlphaBeta mainSearch = new AlphaBeta(this.searchDepth, this.timeBudgetMillis, this.transpositionTable);
+		final AlphaBeta[] helpers = new AlphaBeta[this.threadCount - 1];
+		final Thread[] helperThreads = new Thread[helpers.length];
+		for (int i = 0; i < helpers.length; i++) {
+			final AlphaBeta helper = new AlphaBeta(AlphaBeta.MAX_SEARCH_PLY, AlphaBeta.NO_TIME_LIMIT, this.transpositionTable);
+			helper.setHelperIndex(i + 1);
+			helpers[i] = helper;
+			helperThreads[i] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					helper.search(board);
+				}
+			}, "LazySMP helper " + (i + 1));
+			helperThreads[i].setDaemon(true);
+			helperThreads[i].start();
+		}
+
+		final Move bestMove = mainSearch.execute(board);
+
+		for (final AlphaBeta helper : helpers) {
+			helper.stop();
+		}
+		long nodes = mainSearch.getNodesSearched();
+		for (int i = 0; i < helpers.length; i++) {
+			try {
+				helperThreads[i].join();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			nodes += helpers[i].getNodesSearched();
+		}
+		this.nodesSearched = nodes;
+		this.completedDepth = mainSearch.getCompletedDepth();
+		System.out.println("Lazy SMP with " + this.threadCount + " threads searched " + nodes + " nodes in total");
+		return bestMove;
+	}
+
+	public int getSearchDepth() {
+		return this.searchDepth;
+	}
+
+	public long getTimeBudgetMillis() {
+		return this.timeBudgetMillis;
+	}
+
+	public int getThreadCount() {
+		return this.threadCount;
+	}
+
+	public long getNodesSearched() {
+		return this.nodesSearched;
+	}
+
+	public int getCompletedDepth() {
+		return this.completedDepth;
+	}
+
+	public static void main(final String[] args) {
+		int depth = 7;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		int hashSize = 64;
+		String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-threads") && i + 1 < args.length) {
+				maxThreads = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-hash") && i + 1 < args.length) {
+				hashSize = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-fen") && i + 1 < args.length) {
+				fen = args[++i];
+			} else {
+				depth = Integer.parseInt(args[i]);
+			}
+		}
+		final Board board = FenUtilities.createBoardFromFen(fen);
+		System.out.println(board);
+		new LazySMP(depth, AlphaBeta.NO_TIME_LIMIT, 1, new TranspositionTable(hashSize)).execute(board);
+		long singleThreadTime = 0;
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			final LazySMP lazySMP = new LazySMP(depth, AlphaBeta.NO_TIME_LIMIT, threads, new TranspositionTable(hashSize));
+			final long startTime = System.nanoTime();
+			final Move bestMove = lazySMP.execute(board);
+			final long elapsedTime = System.nanoTime() - startTime;
+			if (threads == 1) {
+				singleThreadTime = elapsedTime;
+			}
+			System.out.println(String.format("Threads %d: depth %d in %d milliseconds, %d nodes, best move %s, time-to-depth speedup %.2f",
+					threads, depth, elapsedTime / 1000000, lazySMP.getNodesSearched(), bestMove, (double) singleThreadTime / elapsedTime));
+		}
+	}
+}
@@ -1,87 +1,105 @@
 package chess.player.ai;
 
 import chess.board.Board;
+import chess.board.CompactMove;
 import chess.board.Move;
-import chess.player.MoveTransition;
+import chess.board.SearchBoard;
 
-public class MiniMax {
+public class MiniMax implements MoveStrategy {
 
 	private final BoardEvaluator boardEvaluater;
 	private final int searchDepth;
+	private final int[][] moveBuffers;
 
 	public MiniMax(final int searchDepth) {
 		this.boardEvaluater = new BoardEvaluator();
 		this.searchDepth = searchDepth;
+		this.moveBuffers = new int[searchDepth + 1][SearchBoard.MAX_MOVES];
 	}
 
+	@Override
 	public Move execute(Board board) {
 
 		final long startTime = System.currentTimeMillis();
-		Move bestMove = null;
+		final SearchBoard searchBoard = new SearchBoard(board);
+		final int[] moves = this.moveBuffers[this.searchDepth];
+		final int moveCount = searchBoard.generateMoves(moves);
+		int bestMove = CompactMove.NULL_MOVE;
+		boolean hasBestMove = false;
 		int highestSeenValue = Integer.MIN_VALUE;
 		int lowestSeenValue = Integer.MAX_VALUE;
 		int currentValue;
 
 		System.out.println(board.currentPlayer() + " THINKING with depth: " + this.searchDepth);
 
-		for (final Move move : board.currentPlayer().getLegalMoves()) {
-			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-			if (moveTransition.getMoveStatus().isDone()) {
+		for (int i = 0; i < moveCount; i++) {
+			final int move = moves[i];
+			if (searchBoard.makeMove(move)) {
 				currentValue = board.currentPlayer().getAlliance().isWhite()
-						? min(moveTransition.getTransitionBoard(), this.searchDepth - 1)
-						: max(moveTransition.getTransitionBoard(), this.searchDepth - 1);
+						? min(searchBoard, this.searchDepth - 1)
+						: max(searchBoard, this.searchDepth - 1);
+				searchBoard.unmakeMove();
 
 				if (board.currentPlayer().getAlliance().isWhite() && currentValue >= highestSeenValue) {
 					highestSeenValue = currentValue;
 					bestMove = move;
+					hasBestMove = true;
 				} else if (board.currentPlayer().getAlliance().isBlack() && currentValue <= lowestSeenValue) {
 					lowestSeenValue = currentValue;
 					bestMove = move;
+					hasBestMove = true;
 				}
 			}
 		}
 		final long executionTime = System.currentTimeMillis() - startTime;
 		System.out.println("Took " + executionTime + " milliseconds to decide");
-		return bestMove;
+		if (!hasBestMove) {
+			return null;
+		}
+		return CompactMove.toMove(board, bestMove);
 	}
 
-	public int min(final Board board, final int depth) {
+	public int min(final SearchBoard board, final int depth) {
 
-		if (depth == 0 || isEndGameScenario(board)) {
+		if (depth == 0) {
 			return this.boardEvaluater.evaluate(board, depth);
 		}
+		final int[] moves = this.moveBuffers[depth];
+		final int moveCount = board.generateMoves(moves);
 		int lowestSeenValue = Integer.MAX_VALUE;
-		for (final Move move : board.currentPlayer().getLegalMoves()) {
-			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-			if (moveTransition.getMoveStatus().isDone()) {
-				final int currentValue = max(moveTransition.getTransitionBoard(), depth - 1);
+		boolean hasLegalMove = false;
+		for (int i = 0; i < moveCount; i++) {
+			if (board.makeMove(moves[i])) {
+				hasLegalMove = true;
+				final int currentValue = max(board, depth - 1);
+				board.unmakeMove();
 				if (currentValue <= lowestSeenValue) {
 					lowestSeenValue = currentValue;
 				}
 			}
 		}
-		return lowestSeenValue;
+		return hasLegalMove ? lowestSeenValue : this.boardEvaluater.evaluate(board, depth);
 	}
 
-	public int max(final Board board, final int depth) {
-		if (depth == 0 || isEndGameScenario(board)) {
+	public int max(final SearchBoard board, final int depth) {
+		if (depth == 0) {
 			return this.boardEvaluater.evaluate(board, depth);
 		}
 
+		final int[] moves = this.moveBuffers[depth];
+		final int moveCount = board.generateMoves(moves);
 		int highestSeenValue = Integer.MIN_VALUE;
-		for (final Move move : board.currentPlayer().getLegalMoves()) {
-			final MoveTransition moveTransition = board.currentPlayer().makeMove(move);
-			if (moveTransition.getMoveStatus().isDone()) {
-				final int currentValue = min(moveTransition.getTransitionBoard(), depth - 1);
+		boolean hasLegalMove = false;
+		for (int i = 0; i < moveCount; i++) {
+			if (board.makeMove(moves[i])) {
+				hasLegalMove = true;
+				final int currentValue = min(board, depth - 1);
+				board.unmakeMove();
 				if (currentValue >= highestSeenValue) {
 					highestSeenValue = currentValue;
 				}
 			}
 		}
-		return highestSeenValue;
-	}
-
-	private static boolean isEndGameScenario(final Board board) {
-		return board.currentPlayer().isInCheckMate() || board.currentPlayer().isInStaleMate();
+		return hasLegalMove ? highestSeenValue : this.boardEvaluater.evaluate(board, depth);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package chess.player.ai;
+
+import chess.board.BitBoards;
+import chess.board.BoardUtils;
+import chess.board.CompactMove;
+import chess.board.SearchBoard;
+
+public final class MoveOrdering {
+
+	private static final int HASH_MOVE_SCORE = 1000000;
+	private static final int CAPTURE_SCORE = 100000;
+	private static final int FIRST_KILLER_SCORE = 90000;
+	private static final int SECOND_KILLER_SCORE = 89000;
+	private static final int HISTORY_LIMIT = 80000;
+	private static final int NUM_KILLERS = 2;
+	private static final int KING_TYPE = 5;
+
+	private final int[][] killers;
+	private final int[][] history;
+	private final int[][] scores;
+	private long cutoffs;
+	private long firstMoveCutoffs;
+
+	public MoveOrdering(final int maxPly) {
+		this.killers = new int[maxPly][NUM_KILLERS];
+		this.history = new int[BitBoards.NUM_PIECE_INDICES][BoardUtils.NUM_TILES];
+		this.scores = new int[maxPly][SearchBoard.MAX_MOVES];
+	}
+
+	public void newSearch() {
+		for (final int[] plyKillers : this.killers) {
+			plyKillers[0] = CompactMove.NULL_MOVE;
+			plyKillers[1] = CompactMove.NULL_MOVE;
+		}
+		ageHistory();
+		this.cutoffs = 0;
+		this.firstMoveCutoffs = 0;
+	}
+
+	public void scoreMoves(final int[] moves, final int moveCount, final int hashMove, final int ply) {
+		final int[] moveScores = this.scores[ply];
+		final int[] plyKillers = this.killers[ply];
+		for (int i = 0; i < moveCount; i++) {
+			final int move = moves[i];
+			if (move == hashMove) {
+				moveScores[i] = HASH_MOVE_SCORE;
+			} else if (isTactical(move)) {
+				moveScores[i] = CAPTURE_SCORE + mvvLva(move);
+			} else if (move == plyKillers[0]) {
+				moveScores[i] = FIRST_KILLER_SCORE;
+			} else if (move == plyKillers[1]) {
+				moveScores[i] = SECOND_KILLER_SCORE;
+			} else {
+				moveScores[i] = this.history[CompactMove.getMovedPiece(move)][CompactMove.getTo(move)];
+			}
+		}
+	}
+
+	public int selectNext(final int[] moves, final int moveCount, final int index, final int ply) {
+		final int[] moveScores = this.scores[ply];
+		int bestIndex = index;
+		for (int i = index + 1; i < moveCount; i++) {
+			if (moveScores[i] > moveScores[bestIndex]) {
+				bestIndex = i;
+			}
+		}
+		final int move = moves[bestIndex];
+		if (bestIndex != index) {
+			moves[bestIndex] = moves[index];
+			moves[index] = move;
+			final int score = moveScores[bestIndex];
+			moveScores[bestIndex] = moveScores[index];
+			moveScores[index] = score;
+		}
+		return move;
+	}
+
+	public void recordCutoff(final int move, final int depth, final int ply, final int moveNumber) {
+		this.cutoffs++;
+		if (moveNumber == 0) {
+			this.firstMoveCutoffs++;
+		}
+		if (isTactical(move)) {
+			return;
+		}
+		final int[] plyKillers = this.killers[ply];
+		if (plyKillers[0] != move) {
+			plyKillers[1] = plyKillers[0];
+			plyKillers[0] = move;
+		}
+		final int[] pieceHistory = this.history[CompactMove.getMovedPiece(move)];
+		final int to = CompactMove.getTo(move);
+		pieceHistory[to] += depth * depth;
+		if (pieceHistory[to] >= HISTORY_LIMIT) {
+			ageHistory();
+		}
+	}
+
+	public long getCutoffs() {
+		return this.cutoffs;
+	}
+
+	public double getFirstMoveCutoffRate() {
+		return this.cutoffs == 0 ? 0.0 : (double) this.firstMoveCutoffs / this.cutoffs;
+	}
+
+	public static boolean isTactical(final int move) {
+		return CompactMove.isCapture(move) || CompactMove.isPromotion(move);
+	}
+
+	private static int mvvLva(final int move) {
+		final int capturedPiece = CompactMove.getCapturedPiece(move);
+		final int victimValue = capturedPiece == CompactMove.NO_PIECE ? 0 : capturedPiece % BitBoards.NUM_PIECE_TYPES + 1;
+		final int promotionValue = CompactMove.isPromotion(move) ? CompactMove.getPromotionType(move).ordinal() : 0;
+		final int attackerType = CompactMove.getMovedPiece(move) % BitBoards.NUM_PIECE_TYPES;
+		return (victimValue + promotionValue) * 8 + (KING_TYPE - attackerType);
+	}
+
+	private void ageHistory() {
+		for (final int[] pieceHistory : this.history) {
+			for (int i = 0; i < pieceHistory.length; i++) {
+				pieceHistory[i] >>= 1;
+			}
+		}
+	}
+}
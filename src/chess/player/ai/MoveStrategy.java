@@ -0,0 +1,9 @@
+package chess.player.ai;
+
+import chess.board.Board;
+import chess.board.Move;
+
+public interface MoveStrategy {
+
+	Move execute(Board board);
+}
@@ -0,0 +1,351 @@
+package chess.player.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import chess.board.Board;
+import chess.board.CompactMove;
+import chess.board.FenUtilities;
+import chess.board.Move;
+import chess.board.SearchBoard;
+
+public class ParallelAlphaBeta implements MoveStrategy, AutoCloseable {
+
+	private static final int SPLIT_MIN_DEPTH = 3;
+	private static final int INITIAL_SPLIT_FRAMES = 16;
+
+	private final ForkJoinPool pool;
+	private final TranspositionTable transpositionTable;
+	private final ThreadLocal<Worker> workers;
+	private final List<Worker> allWorkers;
+	private final int searchDepth;
+	private final long timeBudgetMillis;
+	private final LongAdder nodesSearched;
+	private final LongAdder splitNodes;
+	private volatile boolean stopped;
+	private volatile int completedDepth;
+	private volatile long deadline;
+	private int rootBestMove;
+
+	public ParallelAlphaBeta(final int searchDepth, final long timeBudgetMillis, final int parallelism) {
+		this(searchDepth, timeBudgetMillis, parallelism, new TranspositionTable(AlphaBeta.DEFAULT_TABLE_SIZE_MB));
+	}
+
+	public ParallelAlphaBeta(final int searchDepth, final long timeBudgetMillis, final int parallelism,
+			final TranspositionTable transpositionTable) {
+		this.pool = new ForkJoinPool(parallelism);
+		this.transpositionTable = transpositionTable;
+		this.allWorkers = new CopyOnWriteArrayList<>();
+		this.workers = new ThreadLocal<Worker>() {
+			@Override
+			protected Worker initialValue() {
+				final Worker worker = new Worker(new AlphaBeta(AlphaBeta.MAX_SEARCH_PLY, AlphaBeta.NO_TIME_LIMIT, transpositionTable));
+				allWorkers.add(worker);
+				return worker;
+			}
+		};
+		this.searchDepth = Math.min(searchDepth, AlphaBeta.MAX_SEARCH_PLY - 1);
+		this.timeBudgetMillis = timeBudgetMillis;
+		this.nodesSearched = new LongAdder();
+		this.splitNodes = new LongAdder();
+	}
+
+	@Override
+	public Move execute(final Board board) {
+		final long startTime = System.currentTimeMillis();
+		final SearchBoard searchBoard = new SearchBoard(board);
+		this.nodesSearched.reset();
+		this.splitNodes.reset();
+		this.completedDepth = 0;
+		this.stopped = false;
+		this.deadline = this.timeBudgetMillis > 0 ? System.nanoTime() + this.timeBudgetMillis * 1000000L : Long.MAX_VALUE;
+		this.transpositionTable.newSearch();
+		for (final Worker worker : this.allWorkers) {
+			worker.search.getMoveOrdering().newSearch();
+		}
+
+		System.out.println(board.currentPlayer() + " THINKING with depth: " + this.searchDepth + " on " +
+				this.pool.getParallelism() + " threads" +
+				(this.timeBudgetMillis > 0 ? ", time budget: " + this.timeBudgetMillis + " milliseconds" : ""));
+
+		int bestMove = CompactMove.NULL_MOVE;
+		for (int depth = 1; depth <= this.searchDepth; depth++) {
+			this.rootBestMove = CompactMove.NULL_MOVE;
+			final int score = this.pool.invoke(new SearchTask(new SearchBoard(searchBoard, AlphaBeta.MAX_SEARCH_PLY), CompactMove.NULL_MOVE, depth,
+					-AlphaBeta.INFINITY, AlphaBeta.INFINITY, 0, null));
+			if (this.stopped || this.rootBestMove == CompactMove.NULL_MOVE) {
+				break;
+			}
+			bestMove = this.rootBestMove;
+			this.completedDepth = depth;
+			System.out.println("Depth " + depth + ": " + CompactMove.toString(bestMove) + " score " + score + ", " +
+					this.nodesSearched.sum() + " nodes, " + (System.currentTimeMillis() - startTime) + " milliseconds");
+		}
+		final long executionTime = System.currentTimeMillis() - startTime;
+		System.out.println("Took " + executionTime + " milliseconds to decide, searched " + this.nodesSearched.sum() +
+				" nodes, " + this.splitNodes.sum() + " split nodes");
+		if (bestMove == CompactMove.NULL_MOVE) {
+			return null;
+		}
+		return CompactMove.toMove(board, bestMove);
+	}
+
+	public long getNodesSearched() {
+		return this.nodesSearched.sum();
+	}
+
+	public int getCompletedDepth() {
+		return this.completedDepth;
+	}
+
+	@Override
+	public void close() {
+		this.pool.shutdown();
+	}
+
+	private boolean isStopped() {
+		if (!this.stopped && this.completedDepth > 0 && System.nanoTime() > this.deadline) {
+			this.stopped = true;
+		}
+		return this.stopped;
+	}
+
+	private boolean isAborted(final SplitPoint parent) {
+		return parent == null ? isStopped() : parent.getAsBoolean();
+	}
+
+	private int search(final SearchBoard board, final int depth, int alpha, final int beta, final int ply, final SplitPoint parent) {
+		final Worker worker = this.workers.get();
+		if (ply > 0 && depth < SPLIT_MIN_DEPTH) {
+			final long nodesBefore = worker.search.getNodesSearched();
+			final int score = worker.search.searchSubtree(board, depth, alpha, beta, ply, parent);
+			this.nodesSearched.add(worker.search.getNodesSearched() - nodesBefore);
+			return score;
+		}
+		this.nodesSearched.increment();
+		this.splitNodes.increment();
+		if (isAborted(parent)) {
+			return 0;
+		}
+		final long key = board.getZobristKey();
+		final long entry = this.transpositionTable.probe(key);
+		int hashMove = CompactMove.NULL_MOVE;
+		if (entry != TranspositionTable.NO_ENTRY) {
+			hashMove = TranspositionTable.getMove(entry);
+			if (ply > 0 && AlphaBeta.isTableCutoff(entry, depth, alpha, beta, ply)) {
+				return AlphaBeta.fromTableScore(TranspositionTable.getScore(entry), ply);
+			}
+		}
+		final int[] moves = worker.pushMoves();
+		try {
+			return searchSplitNode(worker, board, moves, hashMove, key, depth, alpha, beta, ply, parent);
+		} finally {
+			worker.popMoves();
+		}
+	}
+
+	private int searchSplitNode(final Worker worker, final SearchBoard board, final int[] moves, final int hashMove,
+			final long key, final int depth, int alpha, final int beta, final int ply, final SplitPoint parent) {
+		final MoveOrdering moveOrdering = worker.search.getMoveOrdering();
+		final int moveCount = board.generateMoves(moves);
+		moveOrdering.scoreMoves(moves, moveCount, hashMove, ply);
+		for (int i = 0; i < moveCount; i++) {
+			moveOrdering.selectNext(moves, moveCount, i, ply);
+		}
+		final SplitPoint splitPoint = new SplitPoint(parent);
+		final int originalAlpha = alpha;
+		int bestScore = -AlphaBeta.INFINITY;
+		int bestMove = CompactMove.NULL_MOVE;
+
+		int moveIndex = 0;
+		while (moveIndex < moveCount && bestMove == CompactMove.NULL_MOVE) {
+			final int move = moves[moveIndex++];
+			if (board.makeMove(move)) {
+				bestScore = -search(board, depth - 1, -beta, -alpha, ply + 1, splitPoint);
+				bestMove = move;
+				board.unmakeMove();
+			}
+		}
+		if (bestMove == CompactMove.NULL_MOVE) {
+			return board.isInCheck() ? -AlphaBeta.MATE_SCORE + ply : 0;
+		}
+		if (isAborted(parent)) {
+			return 0;
+		}
+		if (bestScore > alpha) {
+			alpha = bestScore;
+			if (alpha >= beta) {
+				moveOrdering.recordCutoff(bestMove, depth, ply, 0);
+			}
+		}
+
+		if (alpha < beta) {
+			final List<SearchTask> siblings = new ArrayList<>();
+			for (; moveIndex < moveCount; moveIndex++) {
+				final SearchBoard childBoard = new SearchBoard(board, AlphaBeta.MAX_SEARCH_PLY - ply);
+				if (childBoard.makeMove(moves[moveIndex])) {
+					final SearchTask sibling = new SearchTask(childBoard, moves[moveIndex], depth - 1, -beta, -alpha, ply + 1,
+							splitPoint);
+					sibling.fork();
+					siblings.add(sibling);
+				}
+			}
+			for (int i = 0; i < siblings.size(); i++) {
+				if (splitPoint.getAsBoolean()) {
+					cancelSiblings(siblings, i);
+					break;
+				}
+				final SearchTask sibling = siblings.get(i);
+				final int score = -sibling.join();
+				if (score > bestScore) {
+					bestScore = score;
+					bestMove = sibling.move;
+					if (score > alpha) {
+						alpha = score;
+						if (alpha >= beta) {
+							splitPoint.cutoff = true;
+							moveOrdering.recordCutoff(bestMove, depth, ply, i + 1);
+						}
+					}
+				}
+			}
+			if (isAborted(parent)) {
+				return 0;
+			}
+		}
+		if (ply == 0) {
+			this.rootBestMove = bestMove;
+		}
+		this.transpositionTable.store(key, bestMove, AlphaBeta.toTableScore(bestScore, ply), depth,
+				AlphaBeta.boundType(bestScore, originalAlpha, beta));
+		return bestScore;
+	}
+
+	private static void cancelSiblings(final List<SearchTask> siblings, final int fromIndex) {
+		for (int i = fromIndex; i < siblings.size(); i++) {
+			siblings.get(i).cancel(false);
+		}
+		for (int i = fromIndex; i < siblings.size(); i++) {
+			siblings.get(i).quietlyJoin();
+		}
+	}
+
+	private static final class Worker {
+
+		private final AlphaBeta search;
+		private int[][] moveFrames;
+		private int frameCount;
+
+		Worker(final AlphaBeta search) {
+			this.search = search;
+			this.moveFrames = new int[INITIAL_SPLIT_FRAMES][SearchBoard.MAX_MOVES];
+		}
+
+		int[] pushMoves() {
+			if (this.frameCount == this.moveFrames.length) {
+				this.moveFrames = Arrays.copyOf(this.moveFrames, this.frameCount * 2);
+				for (int i = this.frameCount; i < this.moveFrames.length; i++) {
+					this.moveFrames[i] = new int[SearchBoard.MAX_MOVES];
+				}
+			}
+			return this.moveFrames[this.frameCount++];
+		}
+
+		void popMoves() {
+			this.frameCount--;
+		}
+	}
+
+	private final class SplitPoint implements BooleanSupplier {
+
+		private final SplitPoint parent;
+		private volatile boolean cutoff;
+
+		SplitPoint(final SplitPoint parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public boolean getAsBoolean() {
+			for (SplitPoint splitPoint = this; splitPoint != null; splitPoint = splitPoint.parent) {
+				if (splitPoint.cutoff) {
+					return true;
+				}
+			}
+			return isStopped();
+		}
+	}
+
+	private final class SearchTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final SearchBoard board;
+		private final int move;
+		private final int depth;
+		private final int alpha;
+		private final int beta;
+		private final int ply;
+		private final SplitPoint parent;
+
+		SearchTask(final SearchBoard board, final int move, final int depth, final int alpha, final int beta, final int ply,
+				final SplitPoint parent) {
+			this.board = board;
+			this.move = move;
+			this.depth = depth;
+			this.alpha = alpha;
+			this.beta = beta;
+			this.ply = ply;
+			this.parent = parent;
+		}
+
+		@Override
+		protected Integer compute() {
+			return search(this.board, this.depth, this.alpha, this.beta, this.ply, this.parent);
+		}
+	}
+
+	public static void main(final String[] args) {
+		int depth = 7;
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+		int hashSize = 64;
+		String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals("-threads") && i + 1 < args.length) {
+				maxThreads = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-hash") && i + 1 < args.length) {
+				hashSize = Integer.parseInt(args[++i]);
+			} else if (args[i].equals("-fen") && i + 1 < args.length) {
+				fen = args[++i];
+			} else {
+				depth = Integer.parseInt(args[i]);
+			}
+		}
+		final Board board = FenUtilities.createBoardFromFen(fen);
+		System.out.println(board);
+		try (final ParallelAlphaBeta warmUp = new ParallelAlphaBeta(depth, AlphaBeta.NO_TIME_LIMIT, 1, new TranspositionTable(hashSize))) {
+			warmUp.execute(board);
+		}
+		long singleThreadTime = 0;
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			try (final ParallelAlphaBeta parallelAlphaBeta = new ParallelAlphaBeta(depth, AlphaBeta.NO_TIME_LIMIT, threads,
+					new TranspositionTable(hashSize))) {
+				final long startTime = System.nanoTime();
+				final Move bestMove = parallelAlphaBeta.execute(board);
+				final long elapsedTime = System.nanoTime() - startTime;
+				if (threads == 1) {
+					singleThreadTime = elapsedTime;
+				}
+				System.out.println(String.format("Threads %d: depth %d in %d milliseconds, %d nodes, best move %s, speedup %.2f",
+						threads, depth, elapsedTime / 1000000, parallelAlphaBeta.getNodesSearched(), bestMove,
+						(double) singleThreadTime / elapsedTime));
+			}
+		}
+	}
+}
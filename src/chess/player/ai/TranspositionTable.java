@@ -0,0 +1,154 @@
+package chess.player.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+
+	public static final long NO_ENTRY = 0L;
+
+	public static final int EXACT = 0;
+	public static final int LOWER_BOUND = 1;
+	public static final int UPPER_BOUND = 2;
+
+	private static final int BYTES_PER_SLOT = 16;
+	private static final int SLOTS_PER_BUCKET = 2;
+	private static final int LONGS_PER_BUCKET = SLOTS_PER_BUCKET * 2;
+	private static final int FILL_SAMPLE_BUCKETS = 1000;
+
+	private static final int MOVE_BITS = 27;
+	private static final int SCORE_BITS = 22;
+	private static final int DEPTH_BITS = 8;
+	private static final int BOUND_BITS = 2;
+	private static final int GENERATION_BITS = 5;
+
+	private static final int SCORE_SHIFT = MOVE_BITS;
+	private static final int DEPTH_SHIFT = SCORE_SHIFT + SCORE_BITS;
+	private static final int BOUND_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+	private static final int GENERATION_SHIFT = BOUND_SHIFT + BOUND_BITS;
+
+	private static final long MOVE_MASK = (1L << MOVE_BITS) - 1;
+	private static final long SCORE_MASK = (1L << SCORE_BITS) - 1;
+	private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+	private static final long BOUND_MASK = (1L << BOUND_BITS) - 1;
+	private static final int GENERATION_COUNT = 1 << GENERATION_BITS;
+
+	private final AtomicLongArray entries;
+	private final int bucketMask;
+	private final LongAdder probes;
+	private final LongAdder hits;
+	private final LongAdder stores;
+	private volatile int generation;
+
+	public TranspositionTable(final int sizeInMegabytes) {
+		final long requestedBuckets = Math.max(1L, ((long) sizeInMegabytes << 20) / (BYTES_PER_SLOT * SLOTS_PER_BUCKET));
+		final int bucketCount = (int) Math.min(Long.highestOneBit(requestedBuckets), 1 << 27);
+		this.entries = new AtomicLongArray(bucketCount * LONGS_PER_BUCKET);
+		this.bucketMask = bucketCount - 1;
+		this.probes = new LongAdder();
+		this.hits = new LongAdder();
+		this.stores = new LongAdder();
+		this.generation = 1;
+	}
+
+	public long probe(final long key) {
+		this.probes.increment();
+		final int bucket = bucketIndex(key);
+		for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+			final int index = bucket + slot * 2;
+			final long data = this.entries.get(index + 1);
+			if (data != NO_ENTRY && (this.entries.get(index) ^ data) == key) {
+				this.hits.increment();
+				return data;
+			}
+		}
+		return NO_ENTRY;
+	}
+
+	public void store(final long key, final int move, final int score, final int depth, final int bound) {
+		this.stores.increment();
+		final int bucket = bucketIndex(key);
+		final long data = (move & MOVE_MASK) |
+				((score & SCORE_MASK) << SCORE_SHIFT) |
+				((long) Math.max(0, Math.min(depth, (int) DEPTH_MASK)) << DEPTH_SHIFT) |
+				((long) bound << BOUND_SHIFT) |
+				((long) this.generation << GENERATION_SHIFT);
+		final long depthPreferredData = this.entries.get(bucket + 1);
+		final boolean replaceDepthPreferred = depthPreferredData == NO_ENTRY ||
+				(this.entries.get(bucket) ^ depthPreferredData) == key ||
+				getGeneration(depthPreferredData) != this.generation ||
+				depth >= getDepth(depthPreferredData);
+		final int index = replaceDepthPreferred ? bucket : bucket + 2;
+		this.entries.set(index, key ^ data);
+		this.entries.set(index + 1, data);
+	}
+
+	public void newSearch() {
+		final int nextGeneration = this.generation + 1;
+		this.generation = nextGeneration < GENERATION_COUNT ? nextGeneration : 1;
+	}
+
+	public void clear() {
+		for (int i = 0; i < this.entries.length(); i++) {
+			this.entries.set(i, NO_ENTRY);
+		}
+		this.probes.reset();
+		this.hits.reset();
+		this.stores.reset();
+	}
+
+	public long getProbes() {
+		return this.probes.sum();
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public double getHitRate() {
+		final long probeCount = this.probes.sum();
+		return probeCount == 0 ? 0.0 : (double) this.hits.sum() / probeCount;
+	}
+
+	public double getFillRate() {
+		final int sampleBuckets = Math.min(FILL_SAMPLE_BUCKETS, this.bucketMask + 1);
+		int usedSlots = 0;
+		for (int bucket = 0; bucket < sampleBuckets; bucket++) {
+			for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+				final long data = this.entries.get(bucket * LONGS_PER_BUCKET + slot * 2 + 1);
+				if (data != NO_ENTRY && getGeneration(data) == this.generation) {
+					usedSlots++;
+				}
+			}
+		}
+		return (double) usedSlots / (sampleBuckets * SLOTS_PER_BUCKET);
+	}
+
+	public int getSizeInMegabytes() {
+		return (int) (((long) this.entries.length() * Long.BYTES) >> 20);
+	}
+
+	public static int getMove(final long data) {
+		return (int) (data & MOVE_MASK);
+	}
+
+	public static int getScore(final long data) {
+		return (int) (data << (64 - SCORE_SHIFT - SCORE_BITS) >> (64 - SCORE_BITS));
+	}
+
+	public static int getDepth(final long data) {
+		return (int) ((data >>> DEPTH_SHIFT) & DEPTH_MASK);
+	}
+
+	public static int getBound(final long data) {
+		return (int) ((data >>> BOUND_SHIFT) & BOUND_MASK);
+	}
+
+	private static int getGeneration(final long data) {
+		return (int) (data >>> GENERATION_SHIFT);
+	}
+
+	private int bucketIndex(final long key) {
+		return ((int) (key >>> 32) & this.bucketMask) * LONGS_PER_BUCKET;
+	}
+}
@@ -0,0 +1,62 @@
+package chess.board;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import chess.board.Move.PawnPromotion;
+import chess.pieces.Piece.PieceType;
+
+public class MoveIndexTest {
+
+	private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+	private static final String PROMOTIONS = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1";
+
+	@Test
+	public void findsEveryLegalMove() {
+		for (final String fen : new String[] { KIWIPETE, PROMOTIONS }) {
+			final Collection<Move> legalMoves = FenUtilities.createBoardFromFen(fen).currentPlayer().getLegalMoves();
+			final MoveIndex moveIndex = new MoveIndex(legalMoves);
+			for (final Move move : legalMoves) {
+				assertTrue(move.toString(), moveIndex.contains(move));
+				final PieceType promotionType = move instanceof PawnPromotion ? ((PawnPromotion) move).getPromotionType() : null;
+				assertSame(move, moveIndex.getMove(move.getCurrentCoordinate(), move.getDestinationCoordinate(), promotionType));
+			}
+		}
+	}
+
+	@Test
+	public void missesSquarePairsWithoutALegalMove() {
+		final Board board = FenUtilities.createBoardFromFen(KIWIPETE);
+		final MoveIndex moveIndex = new MoveIndex(board.currentPlayer().getLegalMoves());
+		assertNull(moveIndex.getMove(60, 52));
+		assertNull(moveIndex.getMove(0, 63));
+		assertFalse(moveIndex.contains(board.currentPlayer().getOpponent().getLegalMoves().iterator().next()));
+		assertFalse(moveIndex.contains(Move.NULL_MOVE));
+	}
+
+	@Test
+	public void resolvesPromotionsByPieceType() {
+		final Board board = FenUtilities.createBoardFromFen(PROMOTIONS);
+		final MoveIndex moveIndex = new MoveIndex(board.currentPlayer().getLegalMoves());
+		final int from = BoardUtils.getCoordinateAtPosition("b2");
+		final int to = BoardUtils.getCoordinateAtPosition("a1");
+		assertEquals(PieceType.QUEEN, ((PawnPromotion) moveIndex.getMove(from, to)).getPromotionType());
+		for (final PieceType promotionType : new PieceType[] { PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT }) {
+			assertEquals(promotionType, ((PawnPromotion) moveIndex.getMove(from, to, promotionType)).getPromotionType());
+		}
+	}
+
+	@Test
+	public void emptyIndexFindsNothing() {
+		final MoveIndex moveIndex = new MoveIndex(Collections.<Move>emptyList());
+		assertNull(moveIndex.getMove(52, 36));
+	}
+}
@@ -0,0 +1,106 @@
+package chess.board;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.player.MoveTransition;
+
+public class SearchBoardTest {
+
+	private static final String[] POSITIONS = {
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+			"rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"
+	};
+
+	@Test
+	public void makeAndUnmakeRestoreKeyAndScores() {
+		for (final String fen : POSITIONS) {
+			assertRestored(new SearchBoard(FenUtilities.createBoardFromFen(fen)), 3);
+		}
+	}
+
+	@Test
+	public void incrementalStateMatchesFreshBoard() {
+		for (final String fen : POSITIONS) {
+			final Board board = FenUtilities.createBoardFromFen(fen);
+			final SearchBoard searchBoard = new SearchBoard(board);
+			final int[] moves = new int[SearchBoard.MAX_MOVES];
+			final int moveCount = searchBoard.generateMoves(moves);
+			for (int i = 0; i < moveCount; i++) {
+				if (!searchBoard.makeMove(moves[i])) {
+					continue;
+				}
+				final MoveTransition transition = board.currentPlayer().makeMove(CompactMove.toMove(board, moves[i]));
+				assertTrue(fen + " " + CompactMove.toString(moves[i]), transition.getMoveStatus().isDone());
+				final SearchBoard expected = new SearchBoard(transition.getTransitionBoard());
+				final String message = fen + " " + CompactMove.toString(moves[i]);
+				assertEquals(message, expected.getZobristKey(), searchBoard.getZobristKey());
+				assertEquals(message, expected.getMaterialScore(), searchBoard.getMaterialScore());
+				assertEquals(message, expected.getPositionalScore(), searchBoard.getPositionalScore());
+				searchBoard.unmakeMove();
+			}
+		}
+	}
+
+	@Test
+	public void nullMoveRestoresKey() {
+		final SearchBoard searchBoard = new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[5]));
+		final long key = searchBoard.getZobristKey();
+		searchBoard.makeNullMove();
+		assertTrue(key != searchBoard.getZobristKey());
+		searchBoard.unmakeNullMove();
+		assertEquals(key, searchBoard.getZobristKey());
+	}
+
+	@Test
+	public void perftMatchesReferenceCounts() {
+		assertEquals(197281, perft(new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[0])), 4));
+		assertEquals(97862, perft(new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[1])), 3));
+		assertEquals(43238, perft(new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[2])), 4));
+		assertEquals(9467, perft(new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[3])), 3));
+		assertEquals(62379, perft(new SearchBoard(FenUtilities.createBoardFromFen(POSITIONS[4])), 3));
+	}
+
+	private static void assertRestored(final SearchBoard searchBoard, final int depth) {
+		if (depth == 0) {
+			return;
+		}
+		final long key = searchBoard.getZobristKey();
+		final int materialScore = searchBoard.getMaterialScore();
+		final int positionalScore = searchBoard.getPositionalScore();
+		final int[] moves = new int[SearchBoard.MAX_MOVES];
+		final int moveCount = searchBoard.generateMoves(moves);
+		for (int i = 0; i < moveCount; i++) {
+			if (searchBoard.makeMove(moves[i])) {
+				assertRestored(searchBoard, depth - 1);
+				searchBoard.unmakeMove();
+			}
+			final String message = CompactMove.toString(moves[i]);
+			assertEquals(message, key, searchBoard.getZobristKey());
+			assertEquals(message, materialScore, searchBoard.getMaterialScore());
+			assertEquals(message, positionalScore, searchBoard.getPositionalScore());
+		}
+	}
+
+	private static long perft(final SearchBoard searchBoard, final int depth) {
+		if (depth == 0) {
+			return 1;
+		}
+		final int[] moves = new int[SearchBoard.MAX_MOVES];
+		final int moveCount = searchBoard.generateMoves(moves);
+		long nodes = 0;
+		for (int i = 0; i < moveCount; i++) {
+			if (searchBoard.makeMove(moves[i])) {
+				nodes += perft(searchBoard, depth - 1);
+				searchBoard.unmakeMove();
+			}
+		}
+		return nodes;
+	}
+}
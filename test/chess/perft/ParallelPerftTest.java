@@ -0,0 +1,47 @@
+package chess.perft;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Test;
+
+import chess.board.Board;
+import chess.board.FenUtilities;
+
+public class ParallelPerftTest {
+
+	private ParallelPerft parallelPerft;
+
+	@After
+	public void shutdown() {
+		if (this.parallelPerft != null) {
+			this.parallelPerft.shutdown();
+		}
+	}
+
+	@Test
+	public void matchesReferenceCountsWithoutCache() {
+		this.parallelPerft = new ParallelPerft(4, 0);
+		assertEquals(197281, this.parallelPerft.perft(FenUtilities.createBoardFromFen(Perft.STARTING_POSITION), 4));
+		assertEquals(97862, this.parallelPerft.perft(FenUtilities.createBoardFromFen(PerftTest.KIWIPETE), 3));
+		assertEquals(43238, this.parallelPerft.perft(FenUtilities.createBoardFromFen(PerftTest.POSITION_3), 4));
+		assertEquals(9467, this.parallelPerft.perft(FenUtilities.createBoardFromFen(PerftTest.POSITION_4), 3));
+		assertEquals(62379, this.parallelPerft.perft(FenUtilities.createBoardFromFen(PerftTest.POSITION_5), 3));
+	}
+
+	@Test
+	public void matchesReferenceCountsWithSharedCache() {
+		this.parallelPerft = new ParallelPerft(4, 4);
+		final Board board = FenUtilities.createBoardFromFen(PerftTest.KIWIPETE);
+		assertEquals(97862, this.parallelPerft.perft(board, 3));
+		assertEquals(97862, this.parallelPerft.perft(board, 3));
+		assertEquals(43238, this.parallelPerft.perft(FenUtilities.createBoardFromFen(PerftTest.POSITION_3), 4));
+	}
+
+	@Test
+	public void divideMatchesSequentialDivide() {
+		this.parallelPerft = new ParallelPerft(4, 0);
+		final Board board = FenUtilities.createBoardFromFen(PerftTest.POSITION_5);
+		assertEquals(Perft.divide(board, 2, true), this.parallelPerft.divide(board, 2));
+	}
+}
@@ -0,0 +1,74 @@
+package chess.perft;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import chess.board.Board;
+import chess.board.FenUtilities;
+
+public class PerftTest {
+
+	static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+	static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+	static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+	static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+
+	@Test
+	public void startingPosition() {
+		final Board board = FenUtilities.createBoardFromFen(Perft.STARTING_POSITION);
+		assertEquals(20, Perft.perft(board, 1));
+		assertEquals(400, Perft.perft(board, 2));
+		assertEquals(8902, Perft.perft(board, 3));
+		assertEquals(197281, Perft.perft(board, 4));
+	}
+
+	@Test
+	public void kiwipete() {
+		final Board board = FenUtilities.createBoardFromFen(KIWIPETE);
+		assertEquals(48, Perft.perft(board, 1));
+		assertEquals(2039, Perft.perft(board, 2));
+		assertEquals(97862, Perft.perft(board, 3));
+	}
+
+	@Test
+	public void position3() {
+		final Board board = FenUtilities.createBoardFromFen(POSITION_3);
+		assertEquals(14, Perft.perft(board, 1));
+		assertEquals(191, Perft.perft(board, 2));
+		assertEquals(2812, Perft.perft(board, 3));
+		assertEquals(43238, Perft.perft(board, 4));
+	}
+
+	@Test
+	public void position4() {
+		final Board board = FenUtilities.createBoardFromFen(POSITION_4);
+		assertEquals(6, Perft.perft(board, 1));
+		assertEquals(264, Perft.perft(board, 2));
+		assertEquals(9467, Perft.perft(board, 3));
+	}
+
+	@Test
+	public void position5() {
+		final Board board = FenUtilities.createBoardFromFen(POSITION_5);
+		assertEquals(44, Perft.perft(board, 1));
+		assertEquals(1486, Perft.perft(board, 2));
+		assertEquals(62379, Perft.perft(board, 3));
+	}
+
+	@Test
+	public void bulkCountingMatchesFullExpansion() {
+		final Board board = FenUtilities.createBoardFromFen(POSITION_4);
+		assertEquals(Perft.perft(board, 3, false), Perft.perft(board, 3, true));
+	}
+
+	@Test
+	public void divideSumsToPerft() {
+		final Board board = FenUtilities.createBoardFromFen(KIWIPETE);
+		long nodes = 0;
+		for (final long count : Perft.divide(board, 2, true).values()) {
+			nodes += count;
+		}
+		assertEquals(2039, nodes);
+	}
+}
@@ -0,0 +1,30 @@
+package chess.player.ai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.board.FenUtilities;
+
+public class AlphaBetaTest {
+
+	private static final String QUEEN_HITS_E4 = "r1b1kbnr/pppp1ppp/2n5/4p2q/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 0 1";
+
+	@Test
+	public void reducedMoveThatBeatsAlphaIsReSearched() {
+		final AlphaBeta search = new AlphaBeta(5, AlphaBeta.NO_TIME_LIMIT);
+		search.execute(FenUtilities.createBoardFromFen(QUEEN_HITS_E4));
+		assertTrue(search.getReSearches() > 0);
+		assertTrue(search.getReSearches() <= search.getReducedSearches());
+	}
+
+	@Test
+	public void disabledReductionsNeverReSearch() {
+		final AlphaBeta search = new AlphaBeta(5, AlphaBeta.NO_TIME_LIMIT);
+		search.setLateMoveReductions(false);
+		search.execute(FenUtilities.createBoardFromFen(QUEEN_HITS_E4));
+		assertEquals(0, search.getReducedSearches());
+		assertEquals(0, search.getReSearches());
+	}
+}
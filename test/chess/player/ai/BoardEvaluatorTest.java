@@ -0,0 +1,35 @@
+package chess.player.ai;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import chess.board.Board;
+import chess.board.FenUtilities;
+import chess.board.SearchBoard;
+
+public class BoardEvaluatorTest {
+
+	private static final String[] POSITIONS = {
+			"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+			"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b KQkq - 0 1",
+			"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+			"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1",
+			"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+			"rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+			"8/8/8/K2pP2q/8/8/8/7k w - d6 0 1",
+			"rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3",
+			"4k3/8/8/8/8/8/8/4K2R w K - 0 1"
+	};
+
+	@Test
+	public void boardAndSearchBoardEvaluationsAgree() {
+		final BoardEvaluator evaluator = new BoardEvaluator();
+		for (final String fen : POSITIONS) {
+			final Board board = FenUtilities.createBoardFromFen(fen);
+			assertEquals(fen, evaluator.evaluate(board, 0), evaluator.evaluate(new SearchBoard(board), 0));
+		}
+	}
+}
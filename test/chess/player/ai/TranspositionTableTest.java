@@ -0,0 +1,79 @@
+package chess.player.ai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import chess.board.CompactMove;
+import chess.pieces.Piece.PieceType;
+
+public class TranspositionTableTest {
+
+	private static final long KEY = 0x123456789ABCDEF1L;
+	private static final long SAME_BUCKET_KEY = KEY ^ 0x00000000FFFF0000L;
+	private static final long OTHER_SAME_BUCKET_KEY = KEY ^ 0x000000000000FFFFL;
+	private static final int MOVE = CompactMove.createPromotion(8, 0, CompactMove.PROMOTION_CAPTURE, 0, 9, PieceType.KNIGHT);
+
+	@Test
+	public void storeAndProbeRoundTrip() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, -12345, 7, TranspositionTable.LOWER_BOUND);
+		final long entry = table.probe(KEY);
+		assertTrue(entry != TranspositionTable.NO_ENTRY);
+		assertEquals(MOVE, TranspositionTable.getMove(entry));
+		assertEquals(-12345, TranspositionTable.getScore(entry));
+		assertEquals(7, TranspositionTable.getDepth(entry));
+		assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(entry));
+	}
+
+	@Test
+	public void mateScoresSurviveStorage() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, AlphaBeta.MATE_SCORE - 3, 4, TranspositionTable.EXACT);
+		assertEquals(AlphaBeta.MATE_SCORE - 3, TranspositionTable.getScore(table.probe(KEY)));
+		table.store(KEY, MOVE, -AlphaBeta.MATE_SCORE + 3, 4, TranspositionTable.EXACT);
+		assertEquals(-AlphaBeta.MATE_SCORE + 3, TranspositionTable.getScore(table.probe(KEY)));
+	}
+
+	@Test
+	public void probeVerifiesTheFullKey() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, 10, 5, TranspositionTable.EXACT);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(SAME_BUCKET_KEY));
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY ^ 1L));
+	}
+
+	@Test
+	public void deeperEntryIsKeptWithinASearch() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, 10, 8, TranspositionTable.EXACT);
+		table.store(SAME_BUCKET_KEY, MOVE, 20, 3, TranspositionTable.EXACT);
+		assertEquals(8, TranspositionTable.getDepth(table.probe(KEY)));
+		assertEquals(3, TranspositionTable.getDepth(table.probe(SAME_BUCKET_KEY)));
+		table.store(OTHER_SAME_BUCKET_KEY, MOVE, 30, 2, TranspositionTable.EXACT);
+		assertEquals(8, TranspositionTable.getDepth(table.probe(KEY)));
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(SAME_BUCKET_KEY));
+		assertEquals(2, TranspositionTable.getDepth(table.probe(OTHER_SAME_BUCKET_KEY)));
+	}
+
+	@Test
+	public void staleEntryIsReplacedAfterNewSearch() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, 10, 8, TranspositionTable.EXACT);
+		table.newSearch();
+		table.store(SAME_BUCKET_KEY, MOVE, 20, 1, TranspositionTable.EXACT);
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+		table.store(OTHER_SAME_BUCKET_KEY, MOVE, 30, 0, TranspositionTable.EXACT);
+		assertEquals(1, TranspositionTable.getDepth(table.probe(SAME_BUCKET_KEY)));
+		assertEquals(0, TranspositionTable.getDepth(table.probe(OTHER_SAME_BUCKET_KEY)));
+	}
+
+	@Test
+	public void clearRemovesEntries() {
+		final TranspositionTable table = new TranspositionTable(1);
+		table.store(KEY, MOVE, 10, 5, TranspositionTable.EXACT);
+		table.clear();
+		assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+	}
+}